@@ -1,6 +1,7 @@
 package com.ecommerce.actiondriver;
 
 import com.ecommerce.actioninterface.ActionInterface;
+import com.ecommerce.utility.ConfigReader;
 import com.ecommerce.utility.Log;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.*;
@@ -11,7 +12,14 @@ import java.io.File;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Implements reusable WebDriver actions like click, type, wait, select, etc.
@@ -19,6 +27,53 @@ import java.util.Date;
 public class Action implements ActionInterface {
 
     private static final int TIMEOUT = 30;
+    private static final Duration QUIET_WINDOW = quietWindow();
+    private static final boolean BATCHED_FORMS = batchedForms();
+
+    private static final String READ_ALL = ScriptLocator.FIND_ALL + """
+            var target = arguments[0], attributes = arguments[1], cells = arguments[2];
+            var text = function (el) { return (el.innerText != null ? el.innerText : el.textContent).trim(); };
+            return findAll(target.using, target.locator, null).map(function (el) {
+                var node = {text: text(el), attributes: {}, cells: {}};
+                attributes.forEach(function (name) { node.attributes[name] = el.getAttribute(name); });
+                cells.forEach(function (cell) {
+                    var match = findAll(cell.using, cell.locator, el)[0];
+                    node.cells[cell.name] = match ? text(match) : null;
+                });
+                return node;
+            });
+            """;
+
+    private boolean strict = isStrictByDefault();
+
+    /**
+     * Returns true when {@code action.strict} is set in Config.properties.
+     */
+    public static boolean isStrictByDefault() {
+        return Boolean.parseBoolean(ConfigReader.get("action.strict"));
+    }
+
+    private static boolean batchedForms() {
+        String batched = ConfigReader.get("form.fill.batched");
+        return batched == null || Boolean.parseBoolean(batched.trim());
+    }
+
+    private static Duration quietWindow() {
+        String quietMillis = ConfigReader.get("page.ready.quietMillis");
+        return Duration.ofMillis(quietMillis == null ? 500 : Long.parseLong(quietMillis.trim()));
+    }
+
+    /**
+     * In strict mode a failed wait, type or select throws an {@link ActionFailedException}
+     * straight away instead of being logged and ignored.
+     */
+    public void setStrict(boolean strict) {
+        this.strict = strict;
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
 
      /**
      * Clar text from a WebElement.
@@ -26,7 +81,7 @@ public class Action implements ActionInterface {
     public void clearText(WebElement element) {
         try {
             element.clear();
-            Log.info("Cleared text from element.");
+            Log.info("Cleared text from element: {}", ElementDescriptor.of(element));
         } catch (Exception e) {
             Log.error("Failed to clear text.", e);
         }
@@ -39,9 +94,12 @@ public class Action implements ActionInterface {
         try {
             waitForElementClickable(driver, element);
             element.click();
-            Log.info("Clicked on element: " + element);
+            Log.info("Clicked on element: {}", ElementDescriptor.of(element));
+        } catch (ActionFailedException e) {
+            throw e;
         } catch (Exception e) {
-            Log.error("Click failed on element: " + element, e);
+            FailFastReport.actionFailed(false);
+            Log.error("Click failed on element: {}", ElementDescriptor.of(element), e);
             throw new RuntimeException("Failed to click element", e);
         }
     }
@@ -81,6 +139,15 @@ public class Action implements ActionInterface {
         }
     }
 
+    /**
+     * Thrown in strict mode when an action cannot be performed. The message carries the diagnostic.
+     */
+    public static class ActionFailedException extends RuntimeException {
+        public ActionFailedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
      /**
      * Presses the Enter key using Actions class.
      */
@@ -114,7 +181,7 @@ public class Action implements ActionInterface {
         try {
             return element.getAttribute(attribute);
         } catch (Exception e) {
-            Log.error("Failed to get attribute: " + attribute, e);
+            Log.error("Failed to get attribute: {}", attribute, e);
             return null;
         }
     }
@@ -132,10 +199,11 @@ public class Action implements ActionInterface {
     }
 
     /**
-     * Returns text from a WebElement.
+     * Returns text from a WebElement once it is visible.
      */
     public String getText(WebElement element) {
         try {
+            WaitEngine.isVisibleWithin(element, WaitEngine.READ_TIMEOUT);
             return element.getText();
         } catch (Exception e) {
             Log.error("Failed to get text", e);
@@ -163,7 +231,7 @@ public class Action implements ActionInterface {
         try {
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].style.border='3px solid red'", element);
-            Log.info("Highlighted element: " + element);
+            Log.info("Highlighted element: {}", ElementDescriptor.of(element));
         } catch (Exception e) {
             Log.error("Failed to highlight element.", e);
         }
@@ -182,17 +250,128 @@ public class Action implements ActionInterface {
     }
 
     /**
-     * Checks if an element is displayed.
+     * Checks if an element is displayed right now, without waiting.
      */
     public boolean isDisplayed(WebDriver driver, WebElement element) {
         try {
             return element.isDisplayed();
         } catch (Exception e) {
-            Log.warn("Element not displayed: " + element);
+            Log.warn("Element not displayed: {}", ElementDescriptor.of(element));
+            return false;
+        }
+    }
+
+    /**
+     * Waits up to the read timeout for an element to be displayed.
+     * Use this for "should have appeared" checks; {@link #isDisplayed} answers at once.
+     *
+     * @return true if the element was displayed within the timeout
+     */
+    public boolean waitForDisplayed(WebDriver driver, WebElement element) {
+        try {
+            return WaitEngine.isVisibleWithin(element, WaitEngine.READ_TIMEOUT);
+        } catch (Exception e) {
+            Log.warn("Element not displayed: {}", ElementDescriptor.of(element));
             return false;
         }
     }
 
+    /**
+     * Checks that no element matching the locator is displayed, without waiting.
+     * Use this instead of {@code !isDisplayed(...)} for "should not be there" checks.
+     */
+    public boolean isAbsent(WebDriver driver, By locator) {
+        return withoutImplicitWait(driver, () -> driver.findElements(locator).stream().noneMatch(this::isShown));
+    }
+
+    /**
+     * Checks that a page element is not displayed, without waiting.
+     */
+    public boolean isAbsent(WebDriver driver, WebElement element) {
+        return withoutImplicitWait(driver, () -> !isShown(element));
+    }
+
+    /**
+     * Waits until no element matching the locator is displayed.
+     *
+     * @return true if the elements were gone within the timeout
+     */
+    public boolean waitForGone(WebDriver driver, By locator, Duration timeout) {
+        return withoutImplicitWait(driver, () -> {
+            try {
+                return WaitEngine.until(driver, "gone:" + locator,
+                        d -> d.findElements(locator).stream().noneMatch(this::isShown), timeout);
+            } catch (TimeoutException e) {
+                Log.warn("Still displayed after {} ms: {}", timeout.toMillis(), locator);
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Waits until a page element is no longer displayed.
+     *
+     * @return true if the element was gone within the timeout
+     */
+    public boolean waitForGone(WebDriver driver, WebElement element, Duration timeout) {
+        return withoutImplicitWait(driver, () -> {
+            try {
+                return WaitEngine.until(driver, "gone:" + WaitEngine.keyOf(element), d -> !isShown(element), timeout);
+            } catch (TimeoutException e) {
+                Log.warn("Still displayed after {} ms: {}", timeout.toMillis(), ElementDescriptor.of(element));
+                return false;
+            }
+        });
+    }
+
+    private boolean isShown(WebElement element) {
+        try {
+            return element.isDisplayed();
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs a probe with the implicit wait at zero, so a missing element answers at once.
+     * Sessions already run with a zero implicit wait; anything else is restored afterwards.
+     */
+    private <T> T withoutImplicitWait(WebDriver driver, Supplier<T> probe) {
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration implicitWait = timeouts.getImplicitWaitTimeout();
+        if (implicitWait.isZero()) {
+            return probe.get();
+        }
+        timeouts.implicitlyWait(Duration.ZERO);
+        try {
+            return probe.get();
+        } finally {
+            timeouts.implicitlyWait(implicitWait);
+        }
+    }
+
+    /**
+     * Waits until at least {@code count} elements match the locator.
+     * Sessions run without an implicit wait, so index into {@code findElements} only after this.
+     *
+     * @return the matching elements
+     * @throws TimeoutException when fewer elements match after the read timeout
+     */
+    public List<WebElement> waitForElements(WebDriver driver, By locator, int count) {
+        return WaitEngine.until(driver, "count:" + locator, d -> {
+            List<WebElement> elements = d.findElements(locator);
+            return elements.size() >= count ? elements : null;
+        }, WaitEngine.READ_TIMEOUT);
+    }
+
+    /**
+     * Waits until a page element is in the DOM, for calls that hand it to a script and so fail at
+     * once when it is missing. Any call on a page element looks it up.
+     */
+    private void waitForPresent(WebDriver driver, WebElement element) {
+        WaitEngine.until(driver, element, d -> element.getTagName(), WaitEngine.READ_TIMEOUT);
+    }
+
     /**
      * Checks if a WebElement is enabled.
      */
@@ -222,12 +401,14 @@ public class Action implements ActionInterface {
      */
     public boolean jsClick(WebDriver driver, WebElement element) {
         try {
+            waitForPresent(driver, element);
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].click();", element);
-            Log.info("JS Clicked element");
+            Log.info("JS Clicked element: {}", ElementDescriptor.of(element));
             return true;
         } catch (Exception e) {
             Log.error("JS Click failed", e);
+            failed("JS click", driver, element, e);
             return false;
         }
     }
@@ -239,7 +420,7 @@ public class Action implements ActionInterface {
         try {
             Actions action = new Actions(driver);
             action.moveToElement(element).perform();
-            Log.info("Mouse hovered on element");
+            Log.info("Mouse hovered on element: {}", ElementDescriptor.of(element));
         } catch (Exception e) {
             Log.error("Mouse hover failed", e);
         }
@@ -252,7 +433,7 @@ public class Action implements ActionInterface {
         try {
             Actions actions = new Actions(driver);
             actions.moveToElement(element).click().perform();
-            Log.info("Moved to element and clicked.");
+            Log.info("Moved to element and clicked: {}", ElementDescriptor.of(element));
         } catch (Exception e) {
             Log.error("Move and click failed.", e);
         }
@@ -274,6 +455,7 @@ public class Action implements ActionInterface {
 
     /**
      * Retries clicking on a WebElement up to a maximum number of attempts.
+     * In strict mode a failed clickable wait stops the test at once instead of being retried.
      */
     public void retryClick(WebDriver driver, WebElement element, int maxRetries) {
         int attempts = 0;
@@ -281,15 +463,17 @@ public class Action implements ActionInterface {
             try {
                 waitForElementClickable(driver, element);
                 element.click();
-                Log.info("Clicked on element: " + element);
+                Log.info("Clicked on element: {}", ElementDescriptor.of(element));
                 return;
+            } catch (ActionFailedException e) {
+                throw e;
             } catch (Exception e) {
                 attempts++;
-                Log.warn("Retrying click on element: " + element + " (Attempt " + attempts + ")");
+                Log.warn("Retrying click on element: {} (Attempt {})", ElementDescriptor.of(element), attempts);
             }
         }
-        Log.error("Failed to click on element after " + maxRetries + " attempts.");
-        throw new RuntimeException("Failed to click element: " + element);
+        Log.error("Failed to click on element after {} attempts.", maxRetries);
+        throw new RuntimeException("Failed to click element: " + ElementDescriptor.describe(element));
     }
 
     /**
@@ -299,16 +483,17 @@ public class Action implements ActionInterface {
         int attempts = 0;
         while (attempts < maxRetries) {
             try {
+                waitForPresent(driver, element);
                 JavascriptExecutor js = (JavascriptExecutor) driver;
                 js.executeScript("arguments[0].click();", element);
-                Log.info("JS Clicked element.");
+                Log.info("JS Clicked element: {}", ElementDescriptor.of(element));
                 return true;
             } catch (Exception e) {
                 attempts++;
-                Log.warn("Retrying JS click on element: " + element + " (Attempt " + attempts + ")");
+                Log.warn("Retrying JS click on element: {} (Attempt {})", ElementDescriptor.of(element), attempts);
             }
         }
-        Log.error("Failed to JS click element after " + maxRetries + " attempts.");
+        Log.error("Failed to JS click element after {} attempts.", maxRetries);
         return false;
     }
 
@@ -320,14 +505,14 @@ public class Action implements ActionInterface {
         while (attempts < maxRetries) {
             try {
                 new Select(element).selectByVisibleText(visibleText);
-                Log.info("Selected option by visible text: " + visibleText);
+                Log.info("Selected option by visible text: {}", visibleText);
                 return true;
             } catch (Exception e) {
                 attempts++;
-                Log.warn("Retrying select by visible text: " + visibleText + " (Attempt " + attempts + ")");
+                Log.warn("Retrying select by visible text: {} (Attempt {})", visibleText, attempts);
             }
         }
-        Log.error("Failed to select by visible text after " + maxRetries + " attempts.");
+        Log.error("Failed to select by visible text after {} attempts.", maxRetries);
         return false;
     }
 
@@ -345,7 +530,7 @@ public class Action implements ActionInterface {
             TakesScreenshot ts = (TakesScreenshot) driver;
             File src = ts.getScreenshotAs(OutputType.FILE);
             FileUtils.copyFile(src, new File(fullPath));
-            Log.info("Screenshot captured at: " + fullPath);
+            Log.info("Screenshot captured at: {}", fullPath);
         } catch (IOException e) {
             Log.error("Screenshot capture failed.", e);
         }
@@ -370,7 +555,7 @@ public class Action implements ActionInterface {
         try {
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].scrollIntoView(true);", element);
-            Log.info("Scrolled element into view.");
+            Log.info("Scrolled element into view: {}", ElementDescriptor.of(element));
         } catch (Exception e) {
             Log.error("Scroll into view failed.", e);
         }
@@ -399,6 +584,7 @@ public class Action implements ActionInterface {
             return true;
         } catch (Exception e) {
             Log.error("Select by index failed", e);
+            failed("Select by index", null, element, e);
             return false;
         }
     }
@@ -412,6 +598,7 @@ public class Action implements ActionInterface {
             return true;
         } catch (Exception e) {
             Log.error("Select by value failed", e);
+            failed("Select by value", null, element, e);
             return false;
         }
     }
@@ -421,10 +608,12 @@ public class Action implements ActionInterface {
      */
     public boolean selectByVisibleText(WebElement element, String visibleText) {
         try {
+            WaitEngine.isVisibleWithin(element, WaitEngine.READ_TIMEOUT);
             new Select(element).selectByVisibleText(visibleText);
             return true;
         } catch (Exception e) {
             Log.error("Select by visible text failed", e);
+            failed("Select by visible text", null, element, e);
             return false;
         }
     }
@@ -449,12 +638,14 @@ public class Action implements ActionInterface {
      */
     public boolean type(WebElement element, String text) {
         try {
+            WaitEngine.isVisibleWithin(element, WaitEngine.READ_TIMEOUT);
             element.clear();
             element.sendKeys(text);
-            Log.info("Typed text: " + text);
+            Log.info("Typed text: {} into {}", text, ElementDescriptor.of(element));
             return true;
         } catch (Exception e) {
-            Log.error("Typing failed for element: " + element, e);
+            Log.error("Typing failed for element: {}", ElementDescriptor.of(element), e);
+            failed("Type", null, element, e);
             return false;
         }
     }
@@ -469,9 +660,9 @@ public class Action implements ActionInterface {
                     .pollingEvery(Duration.ofMillis(pollingTime))
                     .ignoring(NoSuchElementException.class);
             wait.until(condition);
-            Log.info("Condition met: " + condition);
+            Log.info("Condition met: {}", condition);
         } catch (TimeoutException e) {
-            Log.error("Condition not met within timeout: " + condition, e);
+            Log.error("Condition not met within timeout: {}", condition, e);
             throw e;
         }
     }
@@ -481,10 +672,10 @@ public class Action implements ActionInterface {
      */
     public void waitForElementClickable(WebDriver driver, WebElement element) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT));
-            wait.until(ExpectedConditions.elementToBeClickable(element));
+            WaitEngine.until(driver, element, ExpectedConditions.elementToBeClickable(element), Duration.ofSeconds(TIMEOUT));
         } catch (TimeoutException e) {
             Log.error("Element not clickable after timeout", e);
+            failed("Wait for clickable (" + TIMEOUT + "s)", driver, element, e);
         }
     }
 
@@ -493,10 +684,10 @@ public class Action implements ActionInterface {
      */
     public void waitForElementVisible(WebDriver driver, WebElement element) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT));
-            wait.until(ExpectedConditions.visibilityOf(element));
+            WaitEngine.until(driver, element, ExpectedConditions.visibilityOf(element), Duration.ofSeconds(TIMEOUT));
         } catch (TimeoutException e) {
             Log.error("Element not visible after timeout", e);
+            failed("Wait for visible (" + TIMEOUT + "s)", driver, element, e);
         }
     }
 
@@ -504,13 +695,292 @@ public class Action implements ActionInterface {
      * Waits for page to load completely.
      */
     public void waitForPageLoad(WebDriver driver) {
+        waitForPageLoad(driver, PageReady.LOAD);
+    }
+
+    /**
+     * Waits until the page is ready in the given sense, in one driver round-trip.
+     * The quiet window for the network and DOM modes is {@code page.ready.quietMillis}.
+     */
+    public void waitForPageLoad(WebDriver driver, PageReady mode) {
+        awaitPage(driver, mode, false);
+    }
+
+    /**
+     * Clicks an element that navigates to another page and waits until that page is ready.
+     * Unlike a click followed by {@link #waitForPageLoad}, the wait cannot be satisfied by the
+     * page being left, which is still 'complete' until the navigation commits.
+     */
+    public void clickAndWaitForPageLoad(WebDriver driver, WebElement element, PageReady mode) {
+        PageReady.markDocument((JavascriptExecutor) driver);
+        click(driver, element);
+        awaitPage(driver, mode, true);
+    }
+
+    private void awaitPage(WebDriver driver, PageReady mode, boolean nextDocument) {
+        long started = System.currentTimeMillis();
+        if (mode.await((JavascriptExecutor) driver, QUIET_WINDOW, 0, Duration.ofSeconds(TIMEOUT), nextDocument)) {
+            Log.info("Page ready ({}) in {} ms.", mode, System.currentTimeMillis() - started);
+            return;
+        }
+        TimeoutException e = new TimeoutException("Page not ready (" + mode + ") within " + TIMEOUT + "s");
+        Log.error("Page did not load completely within timeout.", e);
+        throw e;
+    }
+
+    /**
+     * Waits until the browser has at most {@code maxInflight} requests pending and none has
+     * started or finished for {@code quietMillis}. Chromium sessions are tracked through DevTools
+     * network events; other browsers fall back to {@link PageReady#NETWORK_QUIET}, which only
+     * sees fetch/XHR requests.
+     *
+     * @return true if the network went idle within the timeout
+     */
+    public boolean waitForNetworkIdle(WebDriver driver, long quietMillis, int maxInflight) {
+        long started = System.currentTimeMillis();
+        NetworkIdle tracker = NetworkIdle.watch(driver);
+        boolean idle;
+        if (tracker != null) {
+            try {
+                idle = WaitEngine.until(tracker, "network-idle", t -> t.isIdle(quietMillis, maxInflight), Duration.ofSeconds(TIMEOUT));
+            } catch (TimeoutException e) {
+                idle = false;
+            }
+        } else {
+            idle = PageReady.NETWORK_QUIET.await((JavascriptExecutor) driver, Duration.ofMillis(quietMillis),
+                    maxInflight, Duration.ofSeconds(TIMEOUT), false);
+        }
+        if (idle) {
+            Log.info("Network idle in {} ms.", System.currentTimeMillis() - started);
+            return true;
+        }
+        String message = "Network not idle within " + TIMEOUT + "s"
+                + (tracker != null ? " (" + tracker.inflight() + " request(s) in flight)" : "");
+        Log.error(message);
+        failed("Wait for network idle", driver, null, new TimeoutException(message));
+        return false;
+    }
+
+    /**
+     * Fills a form in one script execution; see {@link FormFill}. Fields the script cannot
+     * reach, and fields added with {@link FormFill#keys}, are typed one by one afterwards.
+     * With {@code form.fill.batched=false} every field is filled one by one, which gives the
+     * round-trip count to compare against.
+     *
+     * @return true if every field was filled
+     */
+    public boolean fillForm(WebDriver driver, FormFill form) {
+        long roundTripsBefore = RoundTrips.current();
+        List<FormFill.Field> scripted = new ArrayList<>();
+        List<FormFill.Field> oneByOne = new ArrayList<>();
+        for (FormFill.Field field : form.fields()) {
+            if (BATCHED_FORMS && field.toScriptArgument() != null) {
+                scripted.add(field);
+            } else {
+                oneByOne.add(field);
+            }
+        }
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT)).until(
-                    webDriver -> ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"));
-            Log.info("Page loaded completely.");
-        } catch (TimeoutException e) {
-            Log.error("Page did not load completely within timeout.", e);
-            throw e;
+            fillByScript(driver, scripted);
+            for (FormFill.Field field : oneByOne) {
+                fillField(driver, field);
+            }
+            Log.info("Filled {} form field(s) in {} driver round-trip(s).", form.fields().size(),
+                    RoundTrips.current() - roundTripsBefore);
+            return true;
+        } catch (Exception e) {
+            Log.error("Form fill failed", e);
+            failed("Fill form", driver, null, e);
+            return false;
+        }
+    }
+
+    /**
+     * Runs the fill script. When fields are not in the page yet it waits for the first of them
+     * and runs the script once more for the fields that failed.
+     */
+    @SuppressWarnings("unchecked")
+    private void fillByScript(WebDriver driver, List<FormFill.Field> fields) {
+        List<FormFill.Field> pending = fields;
+        for (int attempt = 0; !pending.isEmpty(); attempt++) {
+            List<Map<String, Object>> arguments = new ArrayList<>();
+            for (FormFill.Field field : pending) {
+                arguments.add(field.toScriptArgument());
+            }
+            List<Map<String, Object>> failures = (List<Map<String, Object>>)
+                    ((JavascriptExecutor) driver).executeScript(FormFill.SCRIPT, arguments);
+            if (failures.isEmpty()) {
+                return;
+            }
+            List<FormFill.Field> failed = new ArrayList<>();
+            StringBuilder reasons = new StringBuilder();
+            for (Map<String, Object> failure : failures) {
+                FormFill.Field field = pending.get(((Number) failure.get("index")).intValue());
+                failed.add(field);
+                reasons.append(reasons.length() == 0 ? "" : ", ").append(field).append(" (").append(failure.get("reason")).append(")");
+            }
+            if (attempt > 0) {
+                throw new InvalidElementStateException("Could not fill " + reasons);
+            }
+            FormFill.Field first = failed.get(0);
+            try {
+                WaitEngine.until(driver, first.toString(), d -> d.findElement(first.locator).isDisplayed(), WaitEngine.READ_TIMEOUT);
+            } catch (TimeoutException e) {
+                throw new InvalidElementStateException("Could not fill " + reasons, e);
+            }
+            pending = failed;
+        }
+    }
+
+    /**
+     * Fills one field with its own WebDriver calls.
+     */
+    private void fillField(WebDriver driver, FormFill.Field field) {
+        WebElement element = WaitEngine.until(driver, field.toString(), d -> d.findElement(field.locator), WaitEngine.READ_TIMEOUT);
+        WaitEngine.isVisibleWithin(element, WaitEngine.READ_TIMEOUT);
+        switch (field.kind) {
+            case TEXT:
+            case KEYS:
+                element.clear();
+                element.sendKeys((String) field.value);
+                break;
+            case SELECT:
+                new Select(element).selectByVisibleText((String) field.value);
+                break;
+            case CHECK:
+                if (element.isSelected() != (Boolean) field.value) {
+                    element.click();
+                }
+                break;
+            default:
+                element.click();
+                break;
+        }
+    }
+
+    /**
+     * Reads the text and attributes of every element the locator matches, in one script execution.
+     *
+     * @param attributes attributes to read from each element
+     * @return one node per match, in document order; empty when the read failed
+     */
+    public List<DomNode> readAll(WebDriver driver, By locator, String... attributes) {
+        return readAll(driver, locator, Collections.emptyMap(), attributes);
+    }
+
+    /**
+     * Reads every element the locator matches, with the text of named cells inside each one,
+     * in one script execution. Use it for tables and lists: a cart row and its price, quantity
+     * and total cost one call instead of a lookup and getText per cell.
+     *
+     * @param cells      cell name to locator, relative to the matched element (e.g. css
+     *                   {@code td.cart_price p} or xpath {@code ./td[2]})
+     * @param attributes attributes to read from each element
+     * @return one node per match, in document order; empty when the read failed
+     */
+    @SuppressWarnings("unchecked")
+    public List<DomNode> readAll(WebDriver driver, By locator, Map<String, By> cells, String... attributes) {
+        long roundTripsBefore = RoundTrips.current();
+        try {
+            Map<String, Object> target = ScriptLocator.toArgument(locator);
+            List<Map<String, Object>> cellArguments = new ArrayList<>();
+            for (Map.Entry<String, By> cell : cells.entrySet()) {
+                Map<String, Object> argument = ScriptLocator.toArgument(cell.getValue());
+                if (argument == null) {
+                    target = null;
+                    break;
+                }
+                argument.put("name", cell.getKey());
+                cellArguments.add(argument);
+            }
+            List<DomNode> nodes = new ArrayList<>();
+            if (target != null) {
+                List<Map<String, Object>> read = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                        .executeScript(READ_ALL, target, Arrays.asList(attributes), cellArguments);
+                for (Map<String, Object> node : read) {
+                    nodes.add(new DomNode((String) node.get("text"), textMap(node.get("attributes")), textMap(node.get("cells"))));
+                }
+            } else {
+                // The script cannot resolve the locator; read element by element instead
+                for (WebElement element : driver.findElements(locator)) {
+                    nodes.add(readElement(element, cells, attributes));
+                }
+            }
+            Log.info("Read {} element(s) matching {} in {} driver round-trip(s).", nodes.size(), locator,
+                    RoundTrips.current() - roundTripsBefore);
+            return nodes;
+        } catch (Exception e) {
+            Log.error("Bulk read failed for {}", locator, e);
+            failed("Read all", driver, null, e);
+            return Collections.emptyList();
+        }
+    }
+
+    private DomNode readElement(WebElement element, Map<String, By> cells, String... attributes) {
+        Map<String, String> attributeValues = new HashMap<>();
+        for (String attribute : attributes) {
+            attributeValues.put(attribute, element.getAttribute(attribute));
+        }
+        Map<String, String> cellTexts = new HashMap<>();
+        for (Map.Entry<String, By> cell : cells.entrySet()) {
+            List<WebElement> matches = element.findElements(cell.getValue());
+            cellTexts.put(cell.getKey(), matches.isEmpty() ? null : matches.get(0).getText().trim());
+        }
+        return new DomNode(element.getText().trim(), Collections.unmodifiableMap(attributeValues),
+                Collections.unmodifiableMap(cellTexts));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> textMap(Object values) {
+        Map<String, String> texts = new HashMap<>();
+        if (values instanceof Map) {
+            ((Map<String, Object>) values).forEach((key, value) -> texts.put(key, value == null ? null : value.toString()));
+        }
+        return Collections.unmodifiableMap(texts);
+    }
+
+    /**
+     * Records a failed action and, in strict mode, stops the test with a diagnostic.
+     */
+    private void failed(String action, WebDriver driver, WebElement element, Exception cause) {
+        FailFastReport.actionFailed(strict);
+        if (strict) {
+            throw new ActionFailedException(diagnose(action, driver, element, cause), cause);
+        }
+    }
+
+    /**
+     * Describes what the page looked like when an action failed.
+     */
+    private String diagnose(String action, WebDriver driver, WebElement element, Exception cause) {
+        StringBuilder diagnostic = new StringBuilder(action).append(" failed on ")
+                .append(element == null ? "the page" : ElementDescriptor.describe(element));
+        diagnostic.append("\n  cause: ").append(cause.getClass().getSimpleName()).append(": ")
+                .append(String.valueOf(cause.getMessage()).split("\n")[0]);
+        if (element != null) {
+            diagnostic.append("\n  element: ").append(elementState(element));
+        }
+        if (driver != null) {
+            try {
+                diagnostic.append("\n  page: ").append(driver.getCurrentUrl())
+                        .append(" ('").append(driver.getTitle()).append("', readyState=")
+                        .append(((JavascriptExecutor) driver).executeScript("return document.readyState")).append(")");
+            } catch (Exception e) {
+                diagnostic.append("\n  page: unavailable (").append(e.getClass().getSimpleName()).append(")");
+            }
+        }
+        return diagnostic.toString();
+    }
+
+    private String elementState(WebElement element) {
+        try {
+            return "present, displayed=" + element.isDisplayed() + ", enabled=" + element.isEnabled();
+        } catch (NoSuchElementException e) {
+            return "not in the DOM";
+        } catch (StaleElementReferenceException e) {
+            return "stale (page changed after lookup)";
+        } catch (Exception e) {
+            return "unknown (" + e.getClass().getSimpleName() + ")";
         }
     }
 }
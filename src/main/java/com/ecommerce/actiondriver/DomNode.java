@@ -0,0 +1,23 @@
+package com.ecommerce.actiondriver;
+
+import java.util.Map;
+
+/**
+ * Text and attributes of one element, read by {@link Action#readAll} together with every other
+ * match of the locator in one script execution.
+ *
+ * @param text       visible text of the element, trimmed
+ * @param attributes requested attributes; a missing attribute maps to null
+ * @param cells      trimmed text of the first match of each requested cell locator inside the
+ *                   element; a cell with no match maps to null
+ */
+public record DomNode(String text, Map<String, String> attributes, Map<String, String> cells) {
+
+    public String attribute(String name) {
+        return attributes.get(name);
+    }
+
+    public String cell(String name) {
+        return cells.get(name);
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.actiondriver;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+/**
+ * Names an element in log messages without touching the browser.
+ *
+ * A PageFactory proxy looks its element up in {@code toString()}, so concatenating one into a log
+ * line costs a driver round-trip even when the level is off. A descriptor is passed as a log
+ * parameter instead: it is only turned into text when the message is written, and then, for the
+ * page object elements of this project ({@link Located}), from the locator of the {@code @FindBy}
+ * annotation, never from the element itself. Any other element is described by its own
+ * {@code toString()}.
+ */
+public final class ElementDescriptor {
+
+    private static final String LOCATED_BY = "Located by ";
+
+    private final WebElement element;
+    private String text;
+
+    private ElementDescriptor(WebElement element) {
+        this.element = element;
+    }
+
+    /**
+     * Locator that can name its element itself, e.g. with the page field it was declared on.
+     */
+    public interface Described {
+        String description();
+    }
+
+    /**
+     * Element that holds its locator itself instead of behind a PageFactory proxy.
+     */
+    public interface Located {
+        ElementLocator locator();
+    }
+
+    /**
+     * Returns a descriptor of the element for use as a log parameter.
+     */
+    public static ElementDescriptor of(WebElement element) {
+        return new ElementDescriptor(element);
+    }
+
+    /**
+     * Describes the element now: the page field and locator for a page object element, otherwise
+     * its {@code toString()} (for a driver element, the locator it was found by), or its class and
+     * identity when that fails.
+     */
+    public static String describe(WebElement element) {
+        if (element == null) {
+            return "null";
+        }
+        Object locator = locatorOf(element);
+        if (locator instanceof Described) {
+            return ((Described) locator).description();
+        }
+        if (locator != null) {
+            return byText(locator.toString());
+        }
+        try {
+            String text = element.toString();
+            if (text != null) {
+                return text;
+            }
+        } catch (RuntimeException e) {
+            // A plain PageFactory proxy looks its element up in toString(), and the lookup failed
+        }
+        return element.getClass().getSimpleName() + "@" + System.identityHashCode(element);
+    }
+
+    /**
+     * Strips the locator class from its text: {@code DefaultElementLocator 'By.id: x'} and
+     * {@code Located by By.id: x} both become {@code By.id: x}.
+     */
+    private static String byText(String located) {
+        int quote = located.indexOf('\'');
+        if (quote >= 0 && located.endsWith("'") && located.length() > quote + 1) {
+            return located.substring(quote + 1, located.length() - 1);
+        }
+        return located.startsWith(LOCATED_BY) ? located.substring(LOCATED_BY.length()) : located;
+    }
+
+    /**
+     * Returns the locator of a page object element, or null for any other element.
+     */
+    static Object locatorOf(WebElement element) {
+        return element instanceof Located ? ((Located) element).locator() : null;
+    }
+
+    @Override
+    public String toString() {
+        String described = text;
+        if (described == null) {
+            described = describe(element);
+            text = described;
+        }
+        return described;
+    }
+}
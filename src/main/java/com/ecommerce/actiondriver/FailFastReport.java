@@ -0,0 +1,68 @@
+package com.ecommerce.actiondriver;
+
+import com.ecommerce.utility.Log;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures how long tests keep running after their first failed action.
+ *
+ * In lenient mode that time is what a broken locator costs on top of its own wait,
+ * because the following steps still run and time out one by one. It is therefore the
+ * time strict mode saves; in strict mode it should be close to zero.
+ */
+public final class FailFastReport {
+
+    private static final ThreadLocal<Long> firstFailure = new ThreadLocal<>();
+    private static final AtomicInteger failedTests = new AtomicInteger();
+    private static final AtomicInteger strictAborts = new AtomicInteger();
+    private static final AtomicLong cascadeMillis = new AtomicLong();
+
+    private FailFastReport() {
+    }
+
+    /**
+     * Records a failed action on the current thread. Only the first one per test counts.
+     *
+     * @param aborted true when strict mode stopped the test at this failure
+     */
+    static void actionFailed(boolean aborted) {
+        if (firstFailure.get() == null) {
+            firstFailure.set(System.currentTimeMillis());
+        }
+        if (aborted) {
+            strictAborts.incrementAndGet();
+        }
+    }
+
+    /**
+     * Closes the current test's measurement. Called from the test teardown.
+     */
+    public static void endTest() {
+        Long failedAt = firstFailure.get();
+        if (failedAt != null) {
+            failedTests.incrementAndGet();
+            cascadeMillis.addAndGet(System.currentTimeMillis() - failedAt);
+            firstFailure.remove();
+        }
+    }
+
+    /**
+     * Logs the suite totals. Called once at the end of the suite.
+     *
+     * @param strict whether the suite ran in strict mode
+     */
+    public static void logSummary(boolean strict) {
+        if (failedTests.get() == 0) {
+            return;
+        }
+        if (strict) {
+            Log.info("Fail-fast: strict mode stopped " + strictAborts.get() + " action(s); "
+                    + failedTests.get() + " failing test(s) ran " + cascadeMillis.get() + " ms after their first failure.");
+        } else {
+            Log.info("Fail-fast: " + failedTests.get() + " failing test(s) ran " + cascadeMillis.get()
+                    + " ms after their first failed action. Setting action.strict=true saves most of this time.");
+        }
+    }
+}
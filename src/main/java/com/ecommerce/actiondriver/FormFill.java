@@ -0,0 +1,144 @@
+package com.ecommerce.actiondriver;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Values to put into a form, filled by {@link Action#fillForm} in one script execution.
+ *
+ * The script finds each field in the page, sets its value and dispatches the {@code input} and
+ * {@code change} events a user's typing would, so the whole form costs one driver round-trip
+ * instead of a find, clear and sendKeys per field. Fields added with {@link #keys} are typed with
+ * real keystrokes afterwards, for inputs whose key handlers matter (masks, autocomplete); so are
+ * fields whose locator cannot be resolved in the page (link text, custom locators).
+ */
+public final class FormFill {
+
+    static final String SCRIPT = ScriptLocator.FIND_ALL + """
+            var fields = arguments[0], failures = [];
+            var fire = function (el, type) { el.dispatchEvent(new Event(type, {bubbles: true})); };
+            var shown = function (el) { return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length); };
+            for (var i = 0; i < fields.length; i++) {
+                var f = fields[i], el = findAll(f.using, f.locator, null)[0];
+                if (!el) { failures.push({index: i, missing: true, reason: 'not found'}); continue; }
+                if (!shown(el)) { failures.push({index: i, missing: true, reason: 'not displayed'}); continue; }
+                if (el.disabled || el.readOnly) { failures.push({index: i, missing: false, reason: 'not editable'}); continue; }
+                if (f.kind === 'text') {
+                    // The prototype setter bypasses frameworks that track the value property themselves
+                    var proto = el.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;
+                    el.focus();
+                    Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, f.value);
+                    fire(el, 'input');
+                    fire(el, 'change');
+                    el.blur();
+                } else if (f.kind === 'select') {
+                    var option = null;
+                    for (var j = 0; j < el.options.length && !option; j++) {
+                        if (el.options[j].text.replace(/\\s+/g, ' ').trim() === f.value) { option = el.options[j]; }
+                    }
+                    if (!option) { failures.push({index: i, missing: false, reason: 'no option "' + f.value + '"'}); continue; }
+                    el.value = option.value;
+                    fire(el, 'input');
+                    fire(el, 'change');
+                } else if (f.kind === 'check') {
+                    if (el.checked !== f.value) { el.click(); }
+                } else {
+                    el.click();
+                }
+            }
+            return failures;
+            """;
+
+    /**
+     * How a field receives its value.
+     */
+    enum Kind {
+        TEXT, SELECT, CHECK, CLICK, KEYS
+    }
+
+    /**
+     * One field and the value to give it.
+     */
+    static final class Field {
+        final By locator;
+        final Kind kind;
+        final Object value;
+
+        Field(By locator, Kind kind, Object value) {
+            this.locator = locator;
+            this.kind = kind;
+            this.value = value;
+        }
+
+        /**
+         * Returns the field as a script argument, or null when the script cannot locate it.
+         */
+        Map<String, Object> toScriptArgument() {
+            Map<String, Object> argument = kind == Kind.KEYS ? null : ScriptLocator.toArgument(locator);
+            if (argument == null) {
+                return null;
+            }
+            argument.put("kind", kind.name().toLowerCase());
+            argument.put("value", value);
+            return argument;
+        }
+
+        @Override
+        public String toString() {
+            return locator.toString();
+        }
+    }
+
+    private final List<Field> fields = new ArrayList<>();
+
+    /**
+     * Sets a text input or textarea. A null value leaves the field unchanged.
+     */
+    public FormFill type(By field, String value) {
+        return add(field, Kind.TEXT, value);
+    }
+
+    /**
+     * Selects a dropdown option by its visible text. A null value leaves the field unchanged.
+     */
+    public FormFill select(By field, String visibleText) {
+        return add(field, Kind.SELECT, visibleText);
+    }
+
+    /**
+     * Ticks or clears a checkbox, clicking it only when its state has to change.
+     */
+    public FormFill check(By field, boolean checked) {
+        return add(field, Kind.CHECK, checked);
+    }
+
+    /**
+     * Clicks a radio button or other control.
+     */
+    public FormFill click(By field) {
+        return add(field, Kind.CLICK, null);
+    }
+
+    /**
+     * Types into a field with real keystrokes, after the scripted fields are filled.
+     * A null value leaves the field unchanged.
+     */
+    public FormFill keys(By field, String value) {
+        return add(field, Kind.KEYS, value);
+    }
+
+    List<Field> fields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    private FormFill add(By field, Kind kind, Object value) {
+        if (value != null || kind == Kind.CLICK) {
+            fields.add(new Field(field, kind, value));
+        }
+        return this;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce.actiondriver;
+
+import com.ecommerce.utility.Log;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts a Chromium session's in-flight requests from DevTools network events.
+ *
+ * The raw {@code Network.*} events are used rather than a versioned devtools domain, so the
+ * tracker keeps working when the browser is newer than the bundled CDP bindings. Once a session
+ * is watched, checking for idleness is a local read with no driver round-trip.
+ */
+public final class NetworkIdle {
+
+    private static final Map<WebDriver, NetworkIdle> trackers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Set<String> inflight = ConcurrentHashMap.newKeySet();
+    private volatile long lastActivity = System.currentTimeMillis();
+
+    private NetworkIdle() {
+    }
+
+    /**
+     * Starts tracking the session's requests. Does nothing for non-Chromium drivers
+     * or when a DevTools connection cannot be opened.
+     *
+     * @return the tracker, or null when the session cannot be tracked
+     */
+    public static NetworkIdle watch(WebDriver driver) {
+        if (!(driver instanceof ChromiumDriver)) {
+            return null;
+        }
+        synchronized (trackers) {
+            NetworkIdle tracker = trackers.get(driver);
+            if (tracker != null) {
+                return tracker;
+            }
+            try {
+                DevTools devTools = ((ChromiumDriver) driver).getDevTools();
+                devTools.createSessionIfThereIsNotOne();
+                tracker = new NetworkIdle();
+                tracker.listen(devTools);
+                devTools.send(new Command<>("Network.enable", Map.of()));
+                trackers.put(driver, tracker);
+                return tracker;
+            } catch (RuntimeException e) {
+                Log.warn("DevTools network tracking unavailable, using the page script instead: " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    private void listen(DevTools devTools) {
+        devTools.addListener(event("Network.requestWillBeSent"), this::started);
+        devTools.addListener(event("Network.loadingFinished"), this::ended);
+        devTools.addListener(event("Network.loadingFailed"), this::ended);
+    }
+
+    private static Event<String> event(String method) {
+        return new Event<>(method, input -> {
+            Map<String, Object> params = input.read(Json.MAP_TYPE);
+            return String.valueOf(params.get("requestId"));
+        });
+    }
+
+    private void started(String requestId) {
+        inflight.add(requestId);
+        lastActivity = System.currentTimeMillis();
+    }
+
+    private void ended(String requestId) {
+        inflight.remove(requestId);
+        lastActivity = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns true when at most {@code maxInflight} requests are pending
+     * and no request has started or ended for {@code quietMillis}.
+     */
+    boolean isIdle(long quietMillis, int maxInflight) {
+        return inflight.size() <= maxInflight && System.currentTimeMillis() - lastActivity >= quietMillis;
+    }
+
+    /**
+     * Returns the number of requests currently in flight.
+     */
+    public int inflight() {
+        return inflight.size();
+    }
+}
@@ -0,0 +1,117 @@
+package com.ecommerce.actiondriver;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+
+import java.time.Duration;
+
+/**
+ * What "the page is ready" means for one wait.
+ *
+ * The wait runs as a single {@code executeAsyncScript} call that the page itself resolves,
+ * so it costs one driver round-trip instead of polling {@code document.readyState}.
+ * The fetch/XHR counter is installed on first use per document; requests already in flight
+ * at that moment are not counted.
+ *
+ * Right after a click that navigates, the old document still reports {@code readyState}
+ * 'complete'. A wait for the next page therefore {@link #markDocument marks} the current
+ * document before the click and only accepts a document without the mark.
+ */
+public enum PageReady {
+
+    /** The document's {@code load} event has fired. */
+    LOAD,
+
+    /** Loaded, and no fetch/XHR has been pending for the quiet window. */
+    NETWORK_QUIET,
+
+    /** Loaded, and the DOM has not changed for the quiet window. */
+    DOM_QUIET;
+
+    private static final int UNLOAD_RETRIES = 3;
+
+    private static final String MARK = "window.__pageReadyLeaving = true;";
+
+    private static final String SCRIPT = """
+            var mode = arguments[0], quietMs = arguments[1], timeoutMs = arguments[2], maxPending = arguments[3];
+            var nextDocument = arguments[4];
+            var done = arguments[arguments.length - 1];
+            var state = window.__pageReady;
+            if (!state) {
+                state = window.__pageReady = {pending: 0, lastActivity: Date.now()};
+                var touch = function (delta) { state.pending += delta; state.lastActivity = Date.now(); };
+                if (window.fetch) {
+                    var fetch = window.fetch;
+                    window.fetch = function () {
+                        touch(1);
+                        return fetch.apply(this, arguments).finally(function () { touch(-1); });
+                    };
+                }
+                var send = XMLHttpRequest.prototype.send;
+                XMLHttpRequest.prototype.send = function () {
+                    touch(1);
+                    this.addEventListener('loadend', function () { touch(-1); });
+                    return send.apply(this, arguments);
+                };
+            }
+            var started = Date.now(), lastMutation = Date.now(), finished = false, observer = null, timer = null;
+            var finish = function (result) {
+                if (finished) { return; }
+                finished = true;
+                if (observer) { observer.disconnect(); }
+                clearInterval(timer);
+                window.removeEventListener('load', check);
+                done(result);
+            };
+            var check = function () {
+                if (Date.now() - started >= timeoutMs) { return finish('timeout'); }
+                // A marked document is the one being navigated away from; the script dies with it
+                if (document.readyState !== 'complete' || (nextDocument && window.__pageReadyLeaving)) { return; }
+                if (mode === 'LOAD') { return finish('ready'); }
+                var quiet = Date.now() - (mode === 'DOM_QUIET' ? lastMutation : state.lastActivity);
+                if (quiet >= quietMs && (mode === 'DOM_QUIET' || state.pending <= maxPending)) { finish('ready'); }
+            };
+            if (mode === 'DOM_QUIET') {
+                observer = new MutationObserver(function () { lastMutation = Date.now(); });
+                observer.observe(document.documentElement || document,
+                        {childList: true, subtree: true, attributes: true, characterData: true});
+            }
+            window.addEventListener('load', check);
+            timer = setInterval(check, mode === 'LOAD' ? 250 : Math.max(10, Math.min(100, quietMs / 4)));
+            check();
+            """;
+
+    /**
+     * Marks the current document as the one about to be left, before a click that navigates.
+     */
+    static void markDocument(JavascriptExecutor js) {
+        js.executeScript(MARK);
+    }
+
+    /**
+     * Waits in the browser until the page is ready in this sense.
+     *
+     * @param js           driver to run the script on
+     * @param quiet        quiet window for the network and DOM modes
+     * @param maxPending   fetch/XHR requests still allowed to be pending in {@link #NETWORK_QUIET}
+     * @param timeout      maximum time to wait
+     * @param nextDocument wait for a document without the {@link #markDocument mark}, i.e. the page navigated to
+     * @return true if the page became ready, false on timeout
+     */
+    boolean await(JavascriptExecutor js, Duration quiet, int maxPending, Duration timeout, boolean nextDocument) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return "ready".equals(js.executeAsyncScript(SCRIPT, name(), quiet.toMillis(), timeout.toMillis(), maxPending,
+                        nextDocument));
+            } catch (ScriptTimeoutException e) {
+                return false;
+            } catch (JavascriptException e) {
+                // The document navigated away while the script was waiting; wait on the new one.
+                if (attempt == UNLOAD_RETRIES) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
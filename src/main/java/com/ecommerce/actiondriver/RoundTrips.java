@@ -0,0 +1,53 @@
+package com.ecommerce.actiondriver;
+
+import com.ecommerce.utility.Log;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the HTTP requests the test threads send to the driver servers.
+ *
+ * Every WebDriver command is one request to chromedriver/geckodriver/msedgedriver, so this is
+ * the number of driver round-trips. Sessions count once they are created with
+ * {@link #clientConfig()}. Commands run on the calling thread, which lets each test read its own
+ * count with {@link #current()} and measure a block of actions by taking the difference.
+ */
+public final class RoundTrips {
+
+    private static final ThreadLocal<long[]> perThread = ThreadLocal.withInitial(() -> new long[1]);
+    private static final AtomicLong total = new AtomicLong();
+
+    private static final Filter COUNTER = next -> request -> {
+        perThread.get()[0]++;
+        total.incrementAndGet();
+        return next.execute(request);
+    };
+
+    private RoundTrips() {
+    }
+
+    /**
+     * Returns the default client configuration with the round-trip counter added.
+     */
+    public static ClientConfig clientConfig() {
+        return ClientConfig.defaultConfig().withFilter(COUNTER);
+    }
+
+    /**
+     * Returns the number of driver round-trips made so far by the current thread.
+     */
+    public static long current() {
+        return perThread.get()[0];
+    }
+
+    /**
+     * Logs the round-trips made by all threads.
+     */
+    public static void logSummary() {
+        if (total.get() > 0) {
+            Log.info("Driver round-trips: " + total.get() + " in total.");
+        }
+    }
+}
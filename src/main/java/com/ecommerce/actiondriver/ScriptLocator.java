@@ -0,0 +1,63 @@
+package com.ecommerce.actiondriver;
+
+import org.openqa.selenium.By;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Passes Selenium locators to scripts that find elements in the page themselves, so a script
+ * can locate and act on many elements in one driver round-trip.
+ */
+final class ScriptLocator {
+
+    /** Locator strategies {@link #FIND_ALL} resolves. */
+    private static final Set<String> SUPPORTED = Set.of("id", "name", "class name", "css selector", "xpath", "tag name");
+
+    /**
+     * Script function {@code findAll(using, locator, root)} returning an array of the matching
+     * elements under root (the document when root is null), in document order.
+     */
+    static final String FIND_ALL = """
+            var findAll = function (using, locator, root) {
+                root = root || document;
+                // id and name lookups search the whole document; keep only the matches below root
+                var under = function (element) { return root === document || (element !== root && root.contains(element)); };
+                if (using === 'id') {
+                    var byId = (root.ownerDocument || root).getElementById(locator);
+                    return byId && under(byId) ? [byId] : [];
+                }
+                if (using === 'name') { return Array.prototype.filter.call((root.ownerDocument || root).getElementsByName(locator), under); }
+                if (using === 'class name') { return Array.prototype.slice.call(root.getElementsByClassName(locator)); }
+                if (using === 'css selector') { return Array.prototype.slice.call(root.querySelectorAll(locator)); }
+                if (using === 'xpath') {
+                    var found = [], result = document.evaluate(locator, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                    for (var n = 0; n < result.snapshotLength; n++) { found.push(result.snapshotItem(n)); }
+                    return found;
+                }
+                return Array.prototype.slice.call(root.getElementsByTagName(locator));
+            };
+            """;
+
+    private ScriptLocator() {
+    }
+
+    /**
+     * Returns the locator as a script argument with {@code using} and {@code locator} keys,
+     * or null when a script cannot resolve it (link text, custom locators).
+     */
+    static Map<String, Object> toArgument(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        if (!SUPPORTED.contains(parameters.using())) {
+            return null;
+        }
+        Map<String, Object> argument = new HashMap<>();
+        argument.put("using", parameters.using());
+        argument.put("locator", String.valueOf(parameters.value()));
+        return argument;
+    }
+}
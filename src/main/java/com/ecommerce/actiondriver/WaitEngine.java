@@ -0,0 +1,137 @@
+package com.ecommerce.actiondriver;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Single explicit wait policy for the framework.
+ *
+ * Sessions run with a zero implicit wait, so a lookup never stacks an implicit timeout on top
+ * of an explicit one. Every wait goes through {@link #until}, which polls at an interval derived
+ * from how long the same locator took to be ready the last few times: locators that are usually
+ * there straight away are polled quickly, slow ones are polled less often.
+ */
+public final class WaitEngine {
+
+    /** Implicit wait applied to every session. */
+    public static final Duration IMPLICIT_WAIT = Duration.ZERO;
+
+    /** Upper bound for read-style checks (visibility, text), the old implicit wait. */
+    public static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final long MIN_POLL_MS = 25;
+    private static final long MAX_POLL_MS = 500;
+    private static final long DEFAULT_POLL_MS = 100;
+    private static final int HISTORY_SIZE = 20;
+
+    private static final Map<String, LocatorHistory> history = new ConcurrentHashMap<>();
+
+    private WaitEngine() {
+    }
+
+    /**
+     * Recent ready-times of one locator, in milliseconds.
+     */
+    private static final class LocatorHistory {
+        private final long[] samples = new long[HISTORY_SIZE];
+        private int count;
+        private int next;
+
+        synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % HISTORY_SIZE;
+            count = Math.min(count + 1, HISTORY_SIZE);
+        }
+
+        synchronized long pollingMillis() {
+            if (count == 0) {
+                return DEFAULT_POLL_MS;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            long median = sorted[count / 2];
+            return Math.max(MIN_POLL_MS, Math.min(MAX_POLL_MS, median / 5));
+        }
+    }
+
+    /**
+     * Waits until the condition returns a non-null, non-false value for the given element.
+     *
+     * @param driver    driver to evaluate the condition against
+     * @param element   element the condition is about, used to look up its history
+     * @param condition condition to wait for
+     * @param timeout   maximum time to wait
+     * @return the condition's result
+     * @throws TimeoutException when the condition is not met in time
+     */
+    public static <R> R until(WebDriver driver, WebElement element, Function<? super WebDriver, R> condition, Duration timeout) {
+        return until(driver, keyOf(element), condition, timeout);
+    }
+
+    /**
+     * Waits until the condition returns a non-null, non-false value.
+     *
+     * @param input     object the condition is evaluated against (driver or element)
+     * @param key       history key, normally the locator
+     * @param condition condition to wait for
+     * @param timeout   maximum time to wait
+     * @return the condition's result
+     * @throws TimeoutException when the condition is not met in time
+     */
+    public static <T, R> R until(T input, String key, Function<? super T, R> condition, Duration timeout) {
+        LocatorHistory locatorHistory = history.computeIfAbsent(key, k -> new LocatorHistory());
+        long started = System.nanoTime();
+        R result = new FluentWait<>(input)
+                .withTimeout(timeout)
+                .pollingEvery(Duration.ofMillis(locatorHistory.pollingMillis()))
+                .ignoring(NoSuchElementException.class)
+                .ignoring(StaleElementReferenceException.class)
+                .until(condition);
+        locatorHistory.record((System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * Waits for the element to be displayed.
+     *
+     * @return true if it became visible within the timeout
+     */
+    public static boolean isVisibleWithin(WebElement element, Duration timeout) {
+        try {
+            return until(element, keyOf(element), WebElement::isDisplayed, timeout);
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the polling interval currently used for an element's locator.
+     */
+    public static Duration pollingFor(WebElement element) {
+        LocatorHistory locatorHistory = history.get(keyOf(element));
+        return Duration.ofMillis(locatorHistory == null ? DEFAULT_POLL_MS : locatorHistory.pollingMillis());
+    }
+
+    /**
+     * Builds the history key for an element without touching the browser.
+     * Page object elements offer their locator, which is used instead of their {@code toString()};
+     * any other element is keyed by identity, since a PageFactory proxy's {@code toString()} looks it up.
+     */
+    static String keyOf(WebElement element) {
+        Object locator = ElementDescriptor.locatorOf(element);
+        if (locator != null) {
+            return String.valueOf(locator);
+        }
+        return element.getClass().getSimpleName() + "@" + System.identityHashCode(element);
+    }
+}
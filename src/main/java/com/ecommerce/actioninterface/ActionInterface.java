@@ -1,9 +1,13 @@
 
 package com.ecommerce.actioninterface;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * Interface defining all reusable actions for interacting with web elements.
  */
@@ -20,6 +24,8 @@ public interface ActionInterface {
     String getCssValue(WebElement element, String propertyName);
     String getPageTitle(WebDriver driver);
     String getText(WebElement element);
+    boolean isAbsent(WebDriver driver, By locator);
+    boolean isAbsent(WebDriver driver, WebElement element);
     boolean isAlertPresent(WebDriver driver);
     boolean isDisplayed(WebDriver driver, WebElement element);
     boolean isElementEnabled(WebElement element);
@@ -36,6 +42,13 @@ public interface ActionInterface {
     boolean type(WebElement element, String text);
     void scrollByVisibilityOfElement(WebDriver driver, WebElement element);
     void scrollIntoView(WebDriver driver, WebElement element);
+    boolean waitForDisplayed(WebDriver driver, WebElement element);
     void waitForElementClickable(WebDriver driver, WebElement element);
     void waitForElementVisible(WebDriver driver, WebElement element);
+    List<WebElement> waitForElements(WebDriver driver, By locator, int count);
+    boolean waitForGone(WebDriver driver, By locator, Duration timeout);
+    boolean waitForGone(WebDriver driver, WebElement element, Duration timeout);
+    boolean waitForNetworkIdle(WebDriver driver, long quietMillis, int maxInflight);
+    void setStrict(boolean strict);
+    boolean isStrict();
 }
@@ -0,0 +1,209 @@
+package com.ecommerce.base;
+
+import com.ecommerce.utility.AccountService;
+import com.ecommerce.utility.ExcelUtil;
+import com.ecommerce.utility.Log;
+import com.ecommerce.utility.UniqueIdentity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pool of test accounts created through the API at suite start, so parallel workers each log in
+ * as a different user and never share a cart.
+ *
+ * A test leases an account with {@link #lease()} and keeps it until its teardown returns it.
+ * Leasing and returning are a poll/offer on a lock-free queue. When every account is leased the
+ * worker waits; the time spent waiting is the pool's saturation, logged at the end of the suite.
+ * A high figure means {@code account.pool.size} is what limits parallelism.
+ */
+public final class AccountPool {
+
+    private static final Queue<Account> idle = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Account> leased = new ThreadLocal<>();
+    private static final List<Map<String, String>> created = new ArrayList<>();
+    private static final AtomicInteger inUse = new AtomicInteger();
+    private static final AtomicInteger peakInUse = new AtomicInteger();
+    private static final AtomicInteger leases = new AtomicInteger();
+    private static final AtomicInteger waitedLeases = new AtomicInteger();
+    private static final AtomicLong waitNanos = new AtomicLong();
+    private static volatile CompletableFuture<Void> provisioning = CompletableFuture.completedFuture(null);
+
+    private AccountPool() {
+    }
+
+    /**
+     * Credentials of one pooled account.
+     */
+    public static final class Account {
+        private final String name;
+        private final String email;
+        private final String password;
+
+        Account(String name, String email, String password) {
+            this.name = name;
+            this.email = email;
+            this.password = password;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+    }
+
+    /**
+     * Starts creating {@code account.pool.size} accounts in the background, in one concurrent batch.
+     * Each account joins the pool as soon as it is created, and one that fails is logged and left
+     * out; leases wait for the batch to finish.
+     */
+    public static synchronized void start() {
+        int size = Integer.parseInt(BaseClass.prop.getProperty("account.pool.size", "4").trim());
+        Map<String, String> template = ExcelUtil.getTestData("Sheet1").get(0);
+        List<Map<String, String>> users = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            Map<String, String> user = new HashMap<>(template);
+            user.put("Name", "Pool User " + i);
+            user.put("Email", UniqueIdentity.email("pool" + i + "@test.com"));
+            users.add(user);
+        }
+        long started = System.currentTimeMillis();
+        AccountService accountService = new AccountService();
+        AtomicInteger ready = new AtomicInteger();
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (Map<String, String> user : users) {
+            requests.add(accountService.createAccountAsync(user).handle((ignored, failure) -> {
+                if (failure != null) {
+                    Log.warn("Could not create pooled account " + user.get("Email") + ": " + failure.getMessage());
+                    return null;
+                }
+                synchronized (created) {
+                    created.add(user);
+                }
+                idle.offer(new Account(user.get("Name"), user.get("Email"), user.get("Password")));
+                ready.incrementAndGet();
+                return null;
+            }));
+        }
+        provisioning = CompletableFuture.allOf(requests.toArray(new CompletableFuture[0])).thenRun(() ->
+                Log.info("Account pool ready: " + ready.get() + " of " + size + " account(s) in "
+                        + (System.currentTimeMillis() - started) + " ms."));
+    }
+
+    /**
+     * Returns the account leased by the current thread, leasing one if it has none.
+     *
+     * @throws RuntimeException when no pooled account could be created, or none becomes free within
+     *                          {@code account.pool.leaseTimeoutSeconds}
+     */
+    public static Account lease() {
+        Account account = leased.get();
+        if (account != null) {
+            return account;
+        }
+        provisioning.join();
+        account = idle.poll();
+        if (account == null) {
+            synchronized (created) {
+                if (created.isEmpty()) {
+                    throw new RuntimeException("Account pool is empty: no pooled account could be created");
+                }
+            }
+            long timeout = TimeUnit.SECONDS.toNanos(
+                    Long.parseLong(BaseClass.prop.getProperty("account.pool.leaseTimeoutSeconds", "300").trim()));
+            long waitStarted = System.nanoTime();
+            while ((account = idle.poll()) == null) {
+                if (System.nanoTime() - waitStarted > timeout) {
+                    throw new RuntimeException("No pooled account became free within " + TimeUnit.NANOSECONDS.toSeconds(timeout) + "s");
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            }
+            waitedLeases.incrementAndGet();
+            waitNanos.addAndGet(System.nanoTime() - waitStarted);
+        }
+        leases.incrementAndGet();
+        peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+        leased.set(account);
+        return account;
+    }
+
+    /**
+     * Like {@link #lease()}, but returns null when the pool is switched off or no pooled account
+     * can be leased, so the caller can fall back to the configured credentials.
+     */
+    public static Account tryLease() {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            return lease();
+        } catch (RuntimeException e) {
+            Log.warn("No pooled account, using the configured credentials: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the current thread's account to the pool, if it leased one.
+     */
+    public static void release() {
+        Account account = leased.get();
+        if (account != null) {
+            leased.remove();
+            inUse.decrementAndGet();
+            idle.offer(account);
+        }
+    }
+
+    /**
+     * Deletes the pooled accounts and logs the pool's saturation.
+     */
+    public static synchronized void shutdown() {
+        try {
+            provisioning.join();
+        } catch (Exception e) {
+            Log.warn("Account pool provisioning failed: " + e.getMessage());
+        }
+        synchronized (created) {
+            if (created.isEmpty()) {
+                return;
+            }
+            try {
+                new AccountService().deleteAccounts(created);
+            } catch (RuntimeException e) {
+                Log.warn(e.getMessage());
+            }
+            created.clear();
+        }
+        idle.clear();
+        if (leases.get() > 0) {
+            Log.info("Account pool: " + leases.get() + " lease(s), " + waitedLeases.get() + " waited for a free account ("
+                    + TimeUnit.NANOSECONDS.toMillis(waitNanos.get()) + " ms in total), peak " + peakInUse.get() + " in use.");
+        }
+    }
+
+    /**
+     * Returns true when the account pool is switched on, by {@code -Daccount.pool.enabled=true}
+     * or in Config.properties. It is off by default.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("account.pool.enabled",
+                BaseClass.prop.getProperty("account.pool.enabled", "false")).trim());
+    }
+}
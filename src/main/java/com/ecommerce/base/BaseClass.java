@@ -1,20 +1,33 @@
 package com.ecommerce.base;
 
+import com.ecommerce.actiondriver.Action;
+import com.ecommerce.actiondriver.FailFastReport;
+import com.ecommerce.actiondriver.NetworkIdle;
+import com.ecommerce.actiondriver.RoundTrips;
+import com.ecommerce.actiondriver.WaitEngine;
 import com.ecommerce.utility.Log;
 import com.ecommerce.utility.ScreenShot;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.ecommerce.utility.TestDataRepository;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.GeckoDriverService;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public class BaseClass {
@@ -24,12 +37,19 @@ public class BaseClass {
     private static ThreadLocal<String> browserName = new ThreadLocal<>();
 
     /**
-     * Loads configuration before the test suite starts.
+     * Loads configuration before the test suite starts and, if enabled, starts creating
+     * the pooled test accounts and pre-launching one browser per worker in the background.
      */
     @BeforeSuite(alwaysRun = true)
-    public void beforeSuite() {
+    public void beforeSuite(ITestContext context) {
         loadConfig();
         Log.startTestSuite("Automation Test Suite Started");
+        if (AccountPool.isEnabled()) {
+            AccountPool.start();
+        }
+        if (SessionWarmUp.isEnabled()) {
+            SessionWarmUp.start(warmUpPlan(context.getSuite().getXmlSuite()), this::startBrowser);
+        }
     }
 
     /**
@@ -52,6 +72,9 @@ public class BaseClass {
      */
     @AfterMethod(alwaysRun = true)
     public void tearDown(ITestResult result) {
+        FailFastReport.endTest();
+        RequestBlocking.endTest(getDriver(), result.getName());
+        AccountPool.release();
         if (result.getStatus() == ITestResult.FAILURE) {
             Log.error("Test Failed: " + result.getName());
             if (getDriver() != null) {
@@ -60,6 +83,12 @@ public class BaseClass {
                 Log.warn("WebDriver is null. Skipping screenshot for: " + result.getName());
             }
         }
+        if (SessionPool.isEnabled()) {
+            SessionPool.release(result.getStatus() == ITestResult.FAILURE);
+            driver.remove();
+            browserName.remove();
+            return;
+        }
         Log.info("Closing browser...");
         if (getDriver() != null) {
             getDriver().quit();
@@ -73,6 +102,18 @@ public class BaseClass {
      */
     @AfterSuite(alwaysRun = true)
     public void afterSuite() {
+        SessionWarmUp.shutdown();
+        SessionPool.shutdown();
+        DriverServices.shutdown();
+        if (AccountPool.isEnabled()) {
+            AccountPool.shutdown();
+        }
+        FailFastReport.logSummary(Action.isStrictByDefault());
+        RequestBlocking.logSummary();
+        SessionStateCache.logSummary();
+        TestDataRepository.logSummary();
+        RoundTrips.logSummary();
+        ElementCache.logSummary();
         Log.endTestSuite("Automation Test Suite Finished");
     }
 
@@ -95,27 +136,68 @@ public class BaseClass {
 
     /**
      * Launches the specified browser and opens the application URL.
+     * When session pooling is enabled the current thread's pooled browser is reused instead.
      * @param browser Name of the browser
      */
     private void launchApp(String browser) {
-        Log.info("Launching browser: " + browser);
         browserName.set(browser.toLowerCase());
+        if (SessionPool.isEnabled()) {
+            driver.set(SessionPool.acquire(browserName.get(), this::newSession, prop.getProperty("url")));
+        } else {
+            driver.set(newSession(browserName.get()));
+        }
+    }
 
-        switch (browserName.get()) {
+    /**
+     * Returns a pre-warmed session for the browser if one is available, otherwise starts a new one.
+     * @param browser Lower-case browser name
+     * @return WebDriver already on the application URL
+     */
+    private WebDriver newSession(String browser) {
+        WebDriver warm = SessionWarmUp.take(browser);
+        return warm != null ? warm : startBrowser(browser);
+    }
+
+    /**
+     * Counts how many worker threads each browser gets in the suite: one per {@code <test>},
+     * or the test's thread-count when it runs its methods, classes or instances in parallel.
+     * @param suite Suite definition
+     * @return number of sessions to warm up per browser
+     */
+    private Map<String, Integer> warmUpPlan(XmlSuite suite) {
+        Map<String, Integer> plan = new LinkedHashMap<>();
+        for (XmlTest test : suite.getTests()) {
+            String browser = test.getParameter("browser") != null ? test.getParameter("browser") : "chrome";
+            XmlSuite.ParallelMode mode = test.getParallel();
+            boolean parallelWithinTest = mode == XmlSuite.ParallelMode.METHODS
+                    || mode == XmlSuite.ParallelMode.CLASSES
+                    || mode == XmlSuite.ParallelMode.INSTANCES;
+            plan.merge(browser.toLowerCase(), parallelWithinTest ? test.getThreadCount() : 1, Integer::sum);
+        }
+        return plan;
+    }
+
+    /**
+     * Starts a new browser session and opens the application URL.
+     * @param browser Lower-case browser name
+     * @return the new WebDriver session
+     */
+    private WebDriver startBrowser(String browser) {
+        Log.info("Launching browser: " + browser);
+        WebDriver newDriver;
+
+        switch (browser) {
             case "chrome":
-                WebDriverManager.chromedriver().setup();
-                driver.set(new ChromeDriver());
+                newDriver = new ChromeDriver((ChromeDriverService) DriverServices.get(browser), BrowserProfiles.chrome(), RoundTrips.clientConfig());
                 break;
             case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                driver.set(new FirefoxDriver());
+                newDriver = new FirefoxDriver((GeckoDriverService) DriverServices.get(browser), BrowserProfiles.firefox(), RoundTrips.clientConfig());
                 break;
             case "edge":
-                WebDriverManager.edgedriver().setup();
-                driver.set(new EdgeDriver());
+                newDriver = new EdgeDriver((EdgeDriverService) DriverServices.get(browser), BrowserProfiles.edge(), RoundTrips.clientConfig());
                 break;
             case "safari":
-                driver.set(new SafariDriver());
+                newDriver = new SafariDriver(DriverServices.get(browser), BrowserProfiles.safari(), RoundTrips.clientConfig());
                 break;
             default:
                 Log.error("Unsupported browser: " + browser);
@@ -123,11 +205,16 @@ public class BaseClass {
         }
 
         // Browser setup
-        WebDriver currentDriver = getDriver();
-        currentDriver.manage().window().maximize();
-        currentDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        currentDriver.get(prop.getProperty("url"));
+        if (BrowserProfiles.shouldMaximize()) {
+            newDriver.manage().window().maximize();
+        }
+        newDriver.manage().timeouts().implicitlyWait(WaitEngine.IMPLICIT_WAIT);
+        // Track requests from the start so the first waitForNetworkIdle sees them (Chromium only)
+        NetworkIdle.watch(newDriver);
+        RequestBlocking.apply(newDriver);
+        newDriver.get(prop.getProperty("url"));
         Log.info("Navigated to: " + prop.getProperty("url"));
+        return newDriver;
     }
 
     /**
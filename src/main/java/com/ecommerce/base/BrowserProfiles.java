@@ -0,0 +1,150 @@
+package com.ecommerce.base;
+
+import com.ecommerce.utility.Log;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.safari.SafariOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds browser options from the named profile selected by {@code browser.profile} in Config.properties.
+ *
+ * A profile is a group of {@code profile.<name>.*} entries (headless, page load strategy,
+ * window size, Chromium switches, Firefox arguments and preferences). The options for each
+ * browser are built once per suite and shared by every session.
+ */
+public final class BrowserProfiles {
+
+    private static final Map<String, MutableCapabilities> optionsByBrowser = new ConcurrentHashMap<>();
+
+    private BrowserProfiles() {
+    }
+
+    /**
+     * Returns the Chrome options for the active profile.
+     */
+    public static ChromeOptions chrome() {
+        return (ChromeOptions) optionsByBrowser.computeIfAbsent("chrome", b -> chromium(new ChromeOptions()));
+    }
+
+    /**
+     * Returns the Edge options for the active profile.
+     */
+    public static EdgeOptions edge() {
+        return (EdgeOptions) optionsByBrowser.computeIfAbsent("edge", b -> chromium(new EdgeOptions()));
+    }
+
+    /**
+     * Returns the Firefox options for the active profile.
+     */
+    public static FirefoxOptions firefox() {
+        return (FirefoxOptions) optionsByBrowser.computeIfAbsent("firefox", b -> buildFirefox());
+    }
+
+    /**
+     * Returns the Safari options for the active profile.
+     */
+    public static SafariOptions safari() {
+        return (SafariOptions) optionsByBrowser.computeIfAbsent("safari", b -> {
+            SafariOptions options = new SafariOptions();
+            options.setPageLoadStrategy(pageLoadStrategy());
+            return options;
+        });
+    }
+
+    /**
+     * Returns the active profile name.
+     */
+    public static String activeProfile() {
+        return System.getProperty("browser.profile", BaseClass.prop.getProperty("browser.profile", "debug-headed")).trim();
+    }
+
+    /**
+     * Returns true when the active profile wants the window maximized after launch.
+     * Headless profiles size the window through {@code windowSize} instead.
+     */
+    public static boolean shouldMaximize() {
+        return !isHeadless() && Boolean.parseBoolean(setting("maximize", "true"));
+    }
+
+    private static <T extends ChromiumOptions<?>> T chromium(T options) {
+        options.setPageLoadStrategy(pageLoadStrategy());
+        if (isHeadless()) {
+            options.addArguments("--headless=new");
+        }
+        String windowSize = setting("windowSize", "");
+        if (!windowSize.isEmpty()) {
+            options.addArguments("--window-size=" + windowSize);
+        }
+        options.addArguments(list(setting("args", "")));
+        Log.info("Built " + options.getBrowserName() + " options from profile '" + activeProfile() + "'.");
+        return options;
+    }
+
+    private static FirefoxOptions buildFirefox() {
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(pageLoadStrategy());
+        if (isHeadless()) {
+            options.addArguments("-headless");
+        }
+        String windowSize = setting("windowSize", "");
+        if (!windowSize.isEmpty()) {
+            String[] size = windowSize.split(",");
+            options.addArguments("--width=" + size[0].trim(), "--height=" + size[1].trim());
+        }
+        options.addArguments(list(setting("firefoxArgs", "")));
+        for (String pref : list(setting("firefoxPrefs", ""))) {
+            String[] pair = pref.split("=", 2);
+            options.addPreference(pair[0].trim(), preferenceValue(pair[1].trim()));
+        }
+        String blockingScript = RequestBlocking.proxyAutoConfigUrl();
+        if (blockingScript != null) {
+            // Firefox has no URL blocklist; the proxy auto-config script sends matching requests to a closed port
+            options.addPreference("network.proxy.type", 2);
+            options.addPreference("network.proxy.autoconfig_url", blockingScript);
+        }
+        Log.info("Built firefox options from profile '" + activeProfile() + "'.");
+        return options;
+    }
+
+    private static boolean isHeadless() {
+        return Boolean.parseBoolean(setting("headless", "false"));
+    }
+
+    private static PageLoadStrategy pageLoadStrategy() {
+        return PageLoadStrategy.fromString(setting("pageLoadStrategy", "normal"));
+    }
+
+    private static String setting(String name, String defaultValue) {
+        return BaseClass.prop.getProperty("profile." + activeProfile() + "." + name, defaultValue).trim();
+    }
+
+    private static List<String> list(String value) {
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    private static Object preferenceValue(String value) {
+        if (value.equals("true") || value.equals("false")) {
+            return Boolean.parseBoolean(value);
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.ecommerce.base;
+
+import com.ecommerce.utility.Log;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Project-local cache of resolved driver binaries, keyed by browser type and installed browser version.
+ *
+ * The first resolution for a browser version goes through WebDriverManager and is written to
+ * {@code .wdm/driver-resolution.properties}; later launches are a map lookup plus one file check,
+ * with no version probing and no network traffic. Setting {@code wdm.offline=true} never calls
+ * WebDriverManager at all, which is what the air-gapped agents need (copy {@code .wdm/} over from
+ * a connected machine): the browser is then identified only by {@code browser.version.<name>} or
+ * by running the binary named in {@code browser.binary.<name>}, and the driver comes only from the
+ * cache or {@code webdriver.<name>.driver}.
+ */
+public final class DriverBinaryCache {
+
+    private static final Path CACHE_DIR = Paths.get(System.getProperty("user.dir"), ".wdm");
+    private static final Path CACHE_FILE = CACHE_DIR.resolve("driver-resolution.properties");
+    private static final Pattern VERSION = Pattern.compile("(\\d+(?:\\.\\d+)+)");
+
+    private static final Properties entries = load();
+    private static final Map<String, String> browserVersions = new ConcurrentHashMap<>();
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * Returns the driver binary for the browser, resolving and caching it on a miss.
+     *
+     * @param browser lower-case browser name (chrome, edge or firefox)
+     * @return driver executable
+     */
+    public static File resolve(String browser) {
+        String version = browserVersions.computeIfAbsent(browser, DriverBinaryCache::detectBrowserVersion);
+        String key = browser + "." + version;
+
+        String cached = entries.getProperty(key);
+        if (cached != null && new File(cached).canExecute()) {
+            Log.info("Driver cache hit for " + browser + " " + version + ": " + cached);
+            return new File(cached);
+        }
+
+        if (isOffline()) {
+            String preset = System.getProperty(driverProperty(browser));
+            if (preset != null && new File(preset).canExecute()) {
+                Log.info("Offline mode, using " + driverProperty(browser) + "=" + preset);
+                return new File(preset);
+            }
+            throw new RuntimeException("Offline mode: no cached driver for " + browser + " " + version
+                    + ". Resolve it once on a connected machine and copy " + CACHE_DIR + " to this agent"
+                    + (version.startsWith("unknown") ? ", and set browser.version." + browser + " or browser.binary." + browser : "")
+                    + ".");
+        }
+
+        Log.info("Driver cache miss for " + browser + " " + version + ", resolving with WebDriverManager.");
+        WebDriverManager manager = manager(browser).cachePath(CACHE_DIR.resolve("drivers").toString());
+        if (!version.startsWith("unknown")) {
+            manager.browserVersion(version.split("\\.")[0]);
+        }
+        manager.setup();
+        String path = manager.getDownloadedDriverPath();
+        store(key, path);
+        return new File(path);
+    }
+
+    /**
+     * Returns true when {@code wdm.offline} is set, as a system property or in Config.properties.
+     */
+    public static boolean isOffline() {
+        String offline = System.getProperty("wdm.offline", BaseClass.prop.getProperty("wdm.offline", "false"));
+        return Boolean.parseBoolean(offline.trim());
+    }
+
+    private static WebDriverManager manager(String browser) {
+        switch (browser) {
+            case "chrome":
+                return WebDriverManager.chromedriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            default:
+                throw new RuntimeException("Browser not supported: " + browser);
+        }
+    }
+
+    private static String driverProperty(String browser) {
+        switch (browser) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                return "webdriver.gecko.driver";
+        }
+    }
+
+    /**
+     * Finds the installed browser version without any network access: an explicit
+     * {@code browser.version.<name>} entry wins, then {@code <browser binary> --version}.
+     * If the version cannot be read, the binary's modification time is used so that
+     * a browser update still invalidates the cached driver.
+     */
+    private static String detectBrowserVersion(String browser) {
+        String configured = setting("browser.version." + browser);
+        if (configured != null) {
+            return configured;
+        }
+        Optional<Path> browserPath = browserBinary(browser);
+        if (browserPath.isEmpty()) {
+            return "unknown";
+        }
+        Path output = null;
+        try {
+            // Output goes to a file so the timeout holds even if the probe never exits
+            output = Files.createTempFile("browser-version", ".txt");
+            Process process = new ProcessBuilder(browserPath.get().toString(), "--version")
+                    .redirectErrorStream(true).redirectOutput(output.toFile()).start();
+            if (process.waitFor(10, TimeUnit.SECONDS)) {
+                Matcher matcher = VERSION.matcher(Files.readString(output, StandardCharsets.UTF_8));
+                if (matcher.find()) {
+                    return matcher.group(1);
+                }
+            } else {
+                process.destroyForcibly();
+                Log.warn(browserPath.get() + " --version did not finish within 10s.");
+            }
+        } catch (IOException e) {
+            Log.warn("Could not run " + browserPath.get() + " --version: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (output != null) {
+                output.toFile().delete();
+            }
+        }
+        return "unknown-" + browserPath.get().toFile().lastModified();
+    }
+
+    /**
+     * Returns the browser binary: {@code browser.binary.<name>} when set, otherwise the one
+     * WebDriverManager finds, except in offline mode.
+     */
+    private static Optional<Path> browserBinary(String browser) {
+        String configured = setting("browser.binary." + browser);
+        if (configured != null) {
+            return Optional.of(Paths.get(configured));
+        }
+        return isOffline() ? Optional.empty() : manager(browser).getBrowserPath();
+    }
+
+    /**
+     * Returns a system property or Config.properties entry, or null when it is not set.
+     */
+    private static String setting(String key) {
+        String value = System.getProperty(key, BaseClass.prop.getProperty(key));
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        if (Files.exists(CACHE_FILE)) {
+            try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+                properties.load(in);
+            } catch (IOException e) {
+                Log.warn("Ignoring unreadable driver cache " + CACHE_FILE + ": " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    private static synchronized void store(String key, String driverPath) {
+        entries.setProperty(key, driverPath);
+        try {
+            Files.createDirectories(CACHE_DIR);
+            Path temp = Files.createTempFile(CACHE_DIR, "driver-resolution", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                entries.store(out, "Resolved driver binaries by <browser>.<installed browser version>");
+            }
+            Files.move(temp, CACHE_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Log.info("Cached driver for " + key + ": " + driverPath);
+        } catch (IOException e) {
+            Log.warn("Failed to persist driver cache " + CACHE_FILE + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.ecommerce.base;
+
+import com.ecommerce.utility.Log;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.net.PortProber;
+import org.openqa.selenium.remote.service.DriverService;
+import org.openqa.selenium.safari.SafariDriverService;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Suite-scoped registry of driver servers (chromedriver, msedgedriver, geckodriver, safaridriver).
+ *
+ * Each driver server is started once and every new browser session is opened against it,
+ * so the driver process boot and binary resolution are no longer paid per test.
+ * chromedriver and msedgedriver accept many concurrent sessions and are shared by all threads.
+ * geckodriver and safaridriver only allow one session per process, so those are leased to one
+ * session at a time and returned to an idle list when that session quits.
+ */
+public final class DriverServices {
+
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(20);
+
+    private static final Map<String, File> driverBinaries = new ConcurrentHashMap<>();
+    private static final Map<String, DriverService> sharedServices = new ConcurrentHashMap<>();
+    private static final Map<String, Queue<DriverService>> idleServices = new ConcurrentHashMap<>();
+    private static final Set<SharedService> startedServices = ConcurrentHashMap.newKeySet();
+
+    private DriverServices() {
+    }
+
+    /**
+     * Implemented by the registry's services. Sessions quitting call {@code stop()}, which
+     * keeps the process running (see {@link #released}); only {@link #shutdown()} stops it.
+     */
+    interface SharedService {
+        void shutdown();
+    }
+
+    /**
+     * Returns a running driver server for the browser, starting it on first use.
+     *
+     * @param browser lower-case browser name
+     * @return running driver service to open a new session against
+     */
+    public static DriverService get(String browser) {
+        if (supportsConcurrentSessions(browser)) {
+            return sharedServices.compute(browser,
+                    (name, running) -> running != null && running.isRunning() ? running : start(name));
+        }
+        Queue<DriverService> idle = idleServices.computeIfAbsent(browser, name -> new ConcurrentLinkedQueue<>());
+        DriverService service;
+        while ((service = idle.poll()) != null) {
+            if (service.isRunning()) {
+                return service;
+            }
+        }
+        return start(browser);
+    }
+
+    /**
+     * Called when a session on the service quits. Single-session services become free for the next session.
+     */
+    private static void released(String browser, DriverService service) {
+        if (!supportsConcurrentSessions(browser) && startedServices.contains(service)) {
+            idleServices.computeIfAbsent(browser, name -> new ConcurrentLinkedQueue<>()).offer(service);
+        }
+    }
+
+    /**
+     * Stops every driver server started by the registry. Called once from {@code @AfterSuite}.
+     */
+    public static void shutdown() {
+        List<SharedService> services = new ArrayList<>(startedServices);
+        for (SharedService service : services) {
+            try {
+                service.shutdown();
+            } catch (Exception e) {
+                Log.warn("Failed to stop driver service: " + e.getMessage());
+            }
+        }
+        startedServices.clear();
+        sharedServices.clear();
+        idleServices.clear();
+        if (!services.isEmpty()) {
+            Log.info("Stopped " + services.size() + " driver service(s).");
+        }
+    }
+
+    private static boolean supportsConcurrentSessions(String browser) {
+        return browser.equals("chrome") || browser.equals("edge");
+    }
+
+    private static DriverService start(String browser) {
+        long started = System.currentTimeMillis();
+        File binary = driverBinaries.computeIfAbsent(browser, DriverServices::resolveBinary);
+        int port = PortProber.findFreePort();
+        try {
+            DriverService service;
+            switch (browser) {
+                case "chrome":
+                    service = new SharedChromeService(binary, port);
+                    break;
+                case "edge":
+                    service = new SharedEdgeService(binary, port);
+                    break;
+                case "firefox":
+                    service = new SharedGeckoService(binary, port, PortProber.findFreePort());
+                    break;
+                case "safari":
+                    service = new SharedSafariService(binary, port);
+                    break;
+                default:
+                    throw new RuntimeException("Browser not supported: " + browser);
+            }
+            service.start();
+            startedServices.add((SharedService) service);
+            Log.info("Started " + browser + " driver service at " + service.getUrl()
+                    + " in " + (System.currentTimeMillis() - started) + " ms.");
+            return service;
+        } catch (IOException e) {
+            Log.error("Failed to start driver service for: " + browser, e);
+            throw new RuntimeException("Failed to start driver service for: " + browser, e);
+        }
+    }
+
+    /**
+     * Resolves the driver binary once per browser for the whole suite.
+     */
+    private static File resolveBinary(String browser) {
+        if (browser.equals("safari")) {
+            return new File("/usr/bin/safaridriver");
+        }
+        return DriverBinaryCache.resolve(browser);
+    }
+
+    private static final class SharedChromeService extends ChromeDriverService implements SharedService {
+        SharedChromeService(File binary, int port) throws IOException {
+            super(binary, port, START_TIMEOUT, List.of("--port=" + port), Map.of());
+        }
+
+        @Override
+        public void stop() {
+            released("chrome", this);
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+    }
+
+    private static final class SharedEdgeService extends EdgeDriverService implements SharedService {
+        SharedEdgeService(File binary, int port) throws IOException {
+            super(binary, port, START_TIMEOUT, List.of("--port=" + port), Map.of());
+        }
+
+        @Override
+        public void stop() {
+            released("edge", this);
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+    }
+
+    private static final class SharedGeckoService extends GeckoDriverService implements SharedService {
+        SharedGeckoService(File binary, int port, int websocketPort) throws IOException {
+            super(binary, port, START_TIMEOUT,
+                    List.of("--port=" + port, "--websocket-port=" + websocketPort,
+                            "--allow-origins", "http://127.0.0.1:" + websocketPort,
+                            "http://localhost:" + websocketPort, "http://[::1]:" + websocketPort),
+                    Map.of());
+        }
+
+        @Override
+        public void stop() {
+            released("firefox", this);
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+    }
+
+    private static final class SharedSafariService extends SafariDriverService implements SharedService {
+        SharedSafariService(File binary, int port) throws IOException {
+            super(binary, port, START_TIMEOUT, List.of("--port", String.valueOf(port)), Map.of());
+        }
+
+        @Override
+        public void stop() {
+            released("safari", this);
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+    }
+}
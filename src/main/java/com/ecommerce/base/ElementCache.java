@@ -0,0 +1,275 @@
+package com.ecommerce.base;
+
+import com.ecommerce.actiondriver.ElementDescriptor;
+import com.ecommerce.utility.Log;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * PageFactory initialisation that looks each {@code @FindBy} element up once per page instance.
+ *
+ * A plain {@code @CacheLookup} breaks as soon as the page re-renders, so here a cached element
+ * is kept until a call on it throws {@link StaleElementReferenceException}; the element is then
+ * looked up again and the call repeated once. A stale element never ran the call, so repeating
+ * it is safe. Elements handed to scripts or Actions chains ({@code getWrappedElement}) are looked
+ * up fresh, since a stale one could not be retried there. {@code List<WebElement>} fields are
+ * looked up on every access, because their staleness only shows later, on the caller's side.
+ *
+ * Hits, lookups and stale re-lookups are counted per field and logged at the end of the suite.
+ * With {@code element.cache.enabled=false} pages use the plain PageFactory.
+ *
+ * Page objects are normally bound by the {@code <Page>Binding} classes generated at compile time,
+ * whose {@link LazyElement}s share this cache; {@link #initElements} is the reflective path they
+ * fall back to with {@code page.binding.generated=false}.
+ */
+public final class ElementCache {
+
+    private static final Map<String, FieldStats> stats = new ConcurrentHashMap<>();
+
+    private ElementCache() {
+    }
+
+    /**
+     * Counters of one page object field.
+     */
+    private static final class FieldStats {
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicInteger lookups = new AtomicInteger();
+        private final AtomicInteger stale = new AtomicInteger();
+    }
+
+    /**
+     * Initialises the page's {@code @FindBy} fields like {@link PageFactory#initElements(SearchContext, Object)},
+     * with cached, staleness-aware element proxies.
+     */
+    public static void initElements(SearchContext searchContext, Object page) {
+        if (!isEnabled()) {
+            PageFactory.initElements(searchContext, page);
+            return;
+        }
+        String pageName = page.getClass().getSimpleName();
+        PageFactory.initElements(new CachingFieldDecorator(field -> new CachingLocator(searchContext, field, pageName)), page);
+    }
+
+    /**
+     * Returns how many accesses to a field were served from the cache.
+     *
+     * @param field page class simple name and field name, e.g. {@code CartPage.viewCartBtn}
+     */
+    public static int hits(String field) {
+        FieldStats counters = stats.get(field);
+        return counters == null ? 0 : counters.hits.get();
+    }
+
+    /**
+     * Returns how many times a field was looked up in the browser, stale re-lookups included.
+     */
+    public static int misses(String field) {
+        FieldStats counters = stats.get(field);
+        return counters == null ? 0 : counters.lookups.get();
+    }
+
+    /**
+     * Returns how many times a field's cached element had gone stale.
+     */
+    public static int staleLookups(String field) {
+        FieldStats counters = stats.get(field);
+        return counters == null ? 0 : counters.stale.get();
+    }
+
+    /**
+     * Logs the hits, lookups and stale re-lookups of every field, with the suite totals.
+     */
+    public static void logSummary() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        int hits = 0;
+        int lookups = 0;
+        for (Map.Entry<String, FieldStats> entry : new TreeMap<>(stats).entrySet()) {
+            FieldStats counters = entry.getValue();
+            hits += counters.hits.get();
+            lookups += counters.lookups.get();
+            Log.debug("Element cache " + entry.getKey() + ": " + counters.hits.get() + " hit(s), "
+                    + counters.lookups.get() + " lookup(s), " + counters.stale.get() + " stale.");
+        }
+        Log.info("Element cache: " + hits + " hit(s), " + lookups + " lookup(s) across " + stats.size() + " field(s).");
+    }
+
+    /**
+     * Returns true unless the element cache is switched off in Config.properties.
+     */
+    public static boolean isEnabled() {
+        return isSet("element.cache.enabled");
+    }
+
+    /**
+     * Returns true unless pages are set to bind their elements through PageFactory in Config.properties.
+     */
+    public static boolean isGeneratedBinding() {
+        return isSet("page.binding.generated");
+    }
+
+    private static boolean isSet(String key) {
+        String enabled = BaseClass.prop == null ? null : BaseClass.prop.getProperty(key);
+        return enabled == null || Boolean.parseBoolean(enabled.trim());
+    }
+
+    /**
+     * Locates one field and keeps the element until it is invalidated.
+     */
+    static final class CachingLocator implements ElementLocator, ElementDescriptor.Described {
+        private final SearchContext searchContext;
+        private final By by;
+        private final String fieldName;
+        private final FieldStats counters;
+        private volatile WebElement cached;
+
+        CachingLocator(SearchContext searchContext, Field field, String pageName) {
+            this(searchContext, new Annotations(field).buildBy(), pageName + "." + field.getName());
+        }
+
+        /**
+         * @param fieldName page class simple name and field name, e.g. {@code CartPage.viewCartBtn}
+         */
+        CachingLocator(SearchContext searchContext, By by, String fieldName) {
+            this.searchContext = searchContext;
+            this.by = by;
+            this.fieldName = fieldName;
+            this.counters = stats.computeIfAbsent(fieldName, k -> new FieldStats());
+        }
+
+        @Override
+        public WebElement findElement() {
+            WebElement element = cached;
+            if (element != null) {
+                counters.hits.incrementAndGet();
+                return element;
+            }
+            return refresh();
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            counters.lookups.incrementAndGet();
+            return searchContext.findElements(by);
+        }
+
+        /**
+         * Looks the element up again and caches the result.
+         */
+        WebElement refresh() {
+            counters.lookups.incrementAndGet();
+            WebElement element = searchContext.findElement(by);
+            cached = element;
+            return element;
+        }
+
+        void invalidate() {
+            cached = null;
+            counters.stale.incrementAndGet();
+        }
+
+        /**
+         * Runs the call on the cached element and, if that has gone stale, once on a fresh lookup.
+         */
+        <T> T call(Function<WebElement, T> action) {
+            try {
+                return action.apply(findElement());
+            } catch (StaleElementReferenceException e) {
+                invalidate();
+                return action.apply(findElement());
+            }
+        }
+
+        @Override
+        public String description() {
+            return fieldName + " (" + by + ")";
+        }
+
+        @Override
+        public String toString() {
+            // Key of the field's wait history, so it stays the same across page instances
+            return "Located by " + by;
+        }
+    }
+
+    /**
+     * Builds element proxies that retry once on a stale cached element.
+     */
+    private static final class CachingFieldDecorator extends DefaultFieldDecorator {
+        CachingFieldDecorator(ElementLocatorFactory factory) {
+            super(factory);
+        }
+
+        @Override
+        protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+            return (WebElement) Proxy.newProxyInstance(loader,
+                    new Class[] {WebElement.class, WrapsElement.class, Locatable.class, ElementDescriptor.Located.class},
+                    new StaleRetryingHandler((CachingLocator) locator));
+        }
+    }
+
+    /**
+     * Runs each call on the cached element and, if it has gone stale, on a fresh lookup.
+     * The proxy also answers {@link ElementDescriptor.Located#locator()}, so log messages and
+     * wait histories can name the field without a lookup.
+     */
+    private static final class StaleRetryingHandler implements InvocationHandler {
+        private final CachingLocator locator;
+
+        StaleRetryingHandler(CachingLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getParameterCount() == 0 && "toString".equals(method.getName())) {
+                // Describe the field without a browser call
+                return "Proxy element for: " + locator;
+            }
+            if (method.getParameterCount() == 0 && "locator".equals(method.getName())) {
+                return locator;
+            }
+            if ("getWrappedElement".equals(method.getName())) {
+                // The element goes to a script or an Actions chain, where a stale one cannot be retried
+                return locator.refresh();
+            }
+            WebElement element = locator.findElement();
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+            }
+            locator.invalidate();
+            try {
+                return method.invoke(locator.findElement(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.ecommerce.base;
+
+import com.ecommerce.actiondriver.ElementDescriptor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page object element bound by a generated {@code <Page>Binding} class: a plain object in place of
+ * PageFactory's dynamic proxy, looked up on first use.
+ *
+ * It behaves like an {@link ElementCache} proxy: the element is kept until a call on it throws
+ * {@code StaleElementReferenceException}, then looked up again and the call repeated once, and
+ * {@link #getWrappedElement()} always looks it up fresh. With {@code element.cache.enabled=false}
+ * every call looks the element up, as PageFactory does.
+ */
+public final class LazyElement implements WebElement, WrapsElement, Locatable, ElementDescriptor.Located {
+
+    private final ElementCache.CachingLocator locator;
+    private final boolean cached;
+
+    private LazyElement(ElementCache.CachingLocator locator, boolean cached) {
+        this.locator = locator;
+        this.cached = cached;
+    }
+
+    /**
+     * Returns an element found through the context by the locator on first use.
+     *
+     * @param field page class simple name and field name, e.g. {@code CartPage.viewCartBtn}
+     */
+    public static WebElement of(SearchContext context, By by, String field) {
+        return new LazyElement(new ElementCache.CachingLocator(context, by, field), ElementCache.isEnabled());
+    }
+
+    /**
+     * Returns a list that finds the matching elements again on every access, like a PageFactory list.
+     */
+    public static List<WebElement> listOf(SearchContext context, By by, String field) {
+        return new LazyElementList(new ElementCache.CachingLocator(context, by, field));
+    }
+
+    private <T> T call(Function<WebElement, T> action) {
+        return cached ? locator.call(action) : action.apply(locator.refresh());
+    }
+
+    @Override
+    public ElementLocator locator() {
+        return locator;
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        // The element goes to a script or an Actions chain, where a stale one cannot be retried
+        return locator.refresh();
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return call(element -> ((Locatable) element).getCoordinates());
+    }
+
+    @Override
+    public void click() {
+        call(element -> {
+            element.click();
+            return null;
+        });
+    }
+
+    @Override
+    public void submit() {
+        call(element -> {
+            element.submit();
+            return null;
+        });
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        call(element -> {
+            element.sendKeys(keysToSend);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        call(element -> {
+            element.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(element -> element.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(element -> element.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(element -> element.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return call(element -> element.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return call(element -> element.findElement(by));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(element -> element.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return call(element -> element.getScreenshotAs(target));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // Same as a PageFactory proxy: the browser element decides, unwrapping the other side
+        return other == this || call(element -> element.equals(other));
+    }
+
+    @Override
+    public int hashCode() {
+        return call(WebElement::hashCode);
+    }
+
+    @Override
+    public String toString() {
+        // Describe the field without a browser call
+        return "Proxy element for: " + locator;
+    }
+}
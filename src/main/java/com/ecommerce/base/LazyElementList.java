@@ -0,0 +1,89 @@
+package com.ecommerce.base;
+
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@code List<WebElement>} field bound by a generated page binding. Like PageFactory's list proxy,
+ * every access finds the elements again, since a kept list would go stale on the caller's side;
+ * whole-list operations (iteration, streams, {@code toArray}) cost one lookup.
+ */
+final class LazyElementList extends AbstractList<WebElement> {
+
+    private final ElementCache.CachingLocator locator;
+
+    LazyElementList(ElementCache.CachingLocator locator) {
+        this.locator = locator;
+    }
+
+    private List<WebElement> lookup() {
+        return locator.findElements();
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return lookup().get(index);
+    }
+
+    @Override
+    public int size() {
+        return lookup().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lookup().isEmpty();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return lookup().iterator();
+    }
+
+    @Override
+    public ListIterator<WebElement> listIterator() {
+        return lookup().listIterator();
+    }
+
+    @Override
+    public ListIterator<WebElement> listIterator(int index) {
+        return lookup().listIterator(index);
+    }
+
+    @Override
+    public Spliterator<WebElement> spliterator() {
+        return lookup().spliterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super WebElement> action) {
+        lookup().forEach(action);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return lookup().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array) {
+        return lookup().toArray(array);
+    }
+
+    @Override
+    public List<WebElement> subList(int fromIndex, int toIndex) {
+        return lookup().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public String toString() {
+        // Describe the field without a browser call
+        return "Proxy element list for: " + locator;
+    }
+}
@@ -0,0 +1,141 @@
+package com.ecommerce.base;
+
+import com.ecommerce.utility.Log;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocks third-party ad and tracking requests listed in {@code block.urls}.
+ *
+ * Chromium sessions get the patterns through DevTools {@code Network.setBlockedURLs} and count
+ * every request the browser refuses. Firefox has no URL blocklist, so it gets a proxy auto-config
+ * script instead (see {@link BrowserProfiles#firefox()}) that sends every URL matching a pattern,
+ * subdomains included, to a closed local port; those requests fail at once but are not counted.
+ * Safari is left unblocked.
+ *
+ * Bytes saved are only an estimate: DevTools {@code Network.loadingFailed} carries no size for a
+ * blocked request, so each one is counted as {@code block.estimatedBytesPerRequest}.
+ */
+public final class RequestBlocking {
+
+    private static final Map<WebDriver, AtomicInteger> blockedBySession = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicInteger suiteBlocked = new AtomicInteger();
+    private static final AtomicLong suiteBytes = new AtomicLong();
+
+    private RequestBlocking() {
+    }
+
+    /**
+     * Returns the configured URL patterns ({@code *} matches any characters).
+     */
+    public static List<String> patterns() {
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : BaseClass.prop.getProperty("block.urls", "").split(",")) {
+            if (!pattern.isBlank()) {
+                patterns.add(pattern.trim());
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * Returns a {@code data:} URL of a proxy auto-config script that refuses every URL matching a
+     * configured pattern and lets the rest through, or null when nothing is blocked. PAC's
+     * {@code shExpMatch} uses the same {@code *} wildcards as {@code block.urls}.
+     */
+    public static String proxyAutoConfigUrl() {
+        List<String> patterns = patterns();
+        if (patterns.isEmpty()) {
+            return null;
+        }
+        StringBuilder script = new StringBuilder("function FindProxyForURL(url, host) {\n");
+        for (String pattern : patterns) {
+            String quoted = pattern.replace("\\", "\\\\").replace("\"", "\\\"");
+            script.append("  if (shExpMatch(url, \"").append(quoted).append("\")) return \"PROXY 127.0.0.1:9\";\n");
+        }
+        script.append("  return \"DIRECT\";\n}\n");
+        return "data:application/x-ns-proxy-autoconfig;base64,"
+                + Base64.getEncoder().encodeToString(script.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Applies the blocklist to a new session, before it loads any page.
+     */
+    public static void apply(WebDriver driver) {
+        List<String> patterns = patterns();
+        if (patterns.isEmpty()) {
+            return;
+        }
+        if (driver instanceof ChromiumDriver) {
+            try {
+                DevTools devTools = ((ChromiumDriver) driver).getDevTools();
+                devTools.createSessionIfThereIsNotOne();
+                AtomicInteger blocked = new AtomicInteger();
+                devTools.addListener(new Event<>("Network.loadingFailed",
+                        input -> input.<Map<String, Object>>read(Json.MAP_TYPE).get("blockedReason")), reason -> {
+                    // setBlockedURLs reports its refusals as blockedReason "inspector"
+                    if ("inspector".equals(reason)) {
+                        blocked.incrementAndGet();
+                    }
+                });
+                devTools.send(new Command<>("Network.enable", Map.of()));
+                devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", patterns)));
+                blockedBySession.put(driver, blocked);
+                Log.info("Blocking " + patterns.size() + " URL pattern(s) through DevTools.");
+            } catch (RuntimeException e) {
+                Log.warn("Could not apply URL blocklist through DevTools: " + e.getMessage());
+            }
+        } else if (driver instanceof FirefoxDriver) {
+            Log.info("Blocking " + patterns.size() + " URL pattern(s) through a proxy auto-config script.");
+        } else {
+            Log.warn("URL blocking is not supported for " + driver.getClass().getSimpleName() + ", requests are not blocked.");
+        }
+    }
+
+    /**
+     * Logs and resets the blocked-request counter of the session that ran the test.
+     */
+    public static void endTest(WebDriver driver, String testName) {
+        AtomicInteger blocked = driver == null ? null : blockedBySession.get(driver);
+        if (blocked == null) {
+            return;
+        }
+        int count = blocked.getAndSet(0);
+        if (count > 0) {
+            long bytes = count * estimatedBytesPerRequest();
+            suiteBlocked.addAndGet(count);
+            suiteBytes.addAndGet(bytes);
+            Log.info("Blocked " + count + " request(s) in " + testName + ", an estimated ~" + bytes / 1024
+                    + " KB saved (" + estimatedBytesPerRequest() + " bytes assumed per request).");
+        }
+    }
+
+    /**
+     * Logs the suite totals.
+     */
+    public static void logSummary() {
+        if (suiteBlocked.get() > 0) {
+            Log.info("Request blocking: " + suiteBlocked.get() + " request(s) blocked, an estimated ~"
+                    + suiteBytes.get() / (1024 * 1024) + " MB saved (blocked requests report no size).");
+        }
+    }
+
+    private static long estimatedBytesPerRequest() {
+        return Long.parseLong(BaseClass.prop.getProperty("block.estimatedBytesPerRequest", "50000").trim());
+    }
+}
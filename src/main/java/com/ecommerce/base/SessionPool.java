@@ -0,0 +1,185 @@
+package com.ecommerce.base;
+
+import com.ecommerce.utility.Log;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps one browser session per worker thread and hands it back to every test
+ * that runs on that thread, instead of launching a new browser per test method.
+ *
+ * Between tests the session is reset (extra windows closed, cookies and web storage
+ * cleared, navigated back to the application URL). A session is only recycled after
+ * it has served the configured number of tests, after a test failure, or when the
+ * browser no longer responds.
+ */
+public final class SessionPool {
+
+    private static final ThreadLocal<PooledSession> current = new ThreadLocal<>();
+    private static final Set<PooledSession> liveSessions = ConcurrentHashMap.newKeySet();
+
+    private SessionPool() {
+    }
+
+    /**
+     * A browser session owned by a single worker thread.
+     */
+    static final class PooledSession {
+        final String browser;
+        final WebDriver driver;
+        /** Handle of the window the session was launched with; the one kept by a reset. */
+        final String mainWindow;
+        int testsServed;
+
+        PooledSession(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+            this.mainWindow = driver.getWindowHandle();
+        }
+    }
+
+    /**
+     * Returns the session for the current thread, launching one if needed.
+     * A reused session is reset and navigated to the given URL before it is returned.
+     *
+     * @param browser  browser name requested by the test
+     * @param launcher creates a new, fully configured session for a browser name
+     * @param url      application URL every test starts from
+     * @return ready-to-use WebDriver
+     */
+    public static WebDriver acquire(String browser, Function<String, WebDriver> launcher, String url) {
+        PooledSession session = current.get();
+        if (session != null && !session.browser.equals(browser)) {
+            Log.info("Pooled session is for " + session.browser + ", test needs " + browser + ". Recycling.");
+            discard(session);
+            session = null;
+        }
+        if (session != null) {
+            try {
+                reset(session, url);
+                Log.info("Reusing pooled " + browser + " session (tests served: " + session.testsServed + ").");
+                return session.driver;
+            } catch (Exception e) {
+                Log.warn("Pooled " + browser + " session did not survive reset, launching a new one: " + e.getMessage());
+                discard(session);
+            }
+        }
+        session = new PooledSession(browser, launcher.apply(browser));
+        current.set(session);
+        liveSessions.add(session);
+        return session.driver;
+    }
+
+    /**
+     * Hands the current thread's session back to the pool after a test.
+     * The session is quit when the test failed or the session reached its reuse limit.
+     *
+     * @param testFailed whether the finished test failed
+     */
+    public static void release(boolean testFailed) {
+        PooledSession session = current.get();
+        if (session == null) {
+            return;
+        }
+        session.testsServed++;
+        int maxTests = maxTestsPerSession();
+        if (testFailed) {
+            Log.info("Test failed, recycling pooled " + session.browser + " session.");
+            discard(session);
+        } else if (session.testsServed >= maxTests) {
+            Log.info("Pooled " + session.browser + " session served " + maxTests + " tests, recycling.");
+            discard(session);
+        } else if (!isAlive(session.driver)) {
+            Log.warn("Pooled " + session.browser + " session is no longer responding, recycling.");
+            discard(session);
+        }
+    }
+
+    /**
+     * Quits every session still held by the pool. Called once at the end of the suite.
+     */
+    public static void shutdown() {
+        List<PooledSession> sessions = new ArrayList<>(liveSessions);
+        for (PooledSession session : sessions) {
+            quitQuietly(session);
+        }
+        liveSessions.clear();
+        current.remove();
+        if (!sessions.isEmpty()) {
+            Log.info("Session pool closed " + sessions.size() + " browser session(s).");
+        }
+    }
+
+    /**
+     * Returns true when session pooling is switched on, by {@code -Dsession.pool.enabled=true}
+     * or in Config.properties. It is off by default.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("session.pool.enabled",
+                BaseClass.prop.getProperty("session.pool.enabled", "false")).trim());
+    }
+
+    private static int maxTestsPerSession() {
+        return Integer.parseInt(BaseClass.prop.getProperty("session.pool.maxTestsPerSession", "20").trim());
+    }
+
+    /**
+     * Brings a reused browser back to the state of a freshly launched one.
+     *
+     * @throws IllegalStateException when the session's original window was closed
+     */
+    private static void reset(PooledSession session, String url) {
+        WebDriver driver = session.driver;
+        Set<String> handles = driver.getWindowHandles();
+        if (!handles.contains(session.mainWindow)) {
+            throw new IllegalStateException("the session's original window was closed");
+        }
+        for (String handle : handles) {
+            if (!handle.equals(session.mainWindow)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(session.mainWindow);
+
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        if (driver instanceof HasCdp) {
+            // Clears cookies for every domain, not only the one currently loaded
+            ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+        driver.get(url);
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandles();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void discard(PooledSession session) {
+        quitQuietly(session);
+        liveSessions.remove(session);
+        current.remove();
+    }
+
+    private static void quitQuietly(PooledSession session) {
+        try {
+            session.driver.quit();
+        } catch (Exception e) {
+            Log.warn("Failed to quit pooled " + session.browser + " session: " + e.getMessage());
+        }
+    }
+}
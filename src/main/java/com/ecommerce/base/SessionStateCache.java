@@ -0,0 +1,174 @@
+package com.ecommerce.base;
+
+import com.ecommerce.utility.Log;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Caches the authenticated state (cookies, localStorage, sessionStorage) of each credential,
+ * so a user logs in through the UI once and later sessions start already logged in.
+ *
+ * With {@code session.state.scope=worker}, the default, each worker thread logs in once, so
+ * parallel workers keep separate server sessions and never share a cart. With {@code suite}
+ * one login, and its server session, is shared by every worker; concurrent workers needing
+ * the same credential then wait for a single login instead of all logging in at once.
+ */
+public final class SessionStateCache {
+
+    private static final Map<String, SessionState> states = new ConcurrentHashMap<>();
+    private static final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private static final AtomicInteger restored = new AtomicInteger();
+    private static final AtomicInteger uiLogins = new AtomicInteger();
+
+    private SessionStateCache() {
+    }
+
+    /**
+     * Captured state of one logged-in session.
+     */
+    private static final class SessionState {
+        private final Set<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final Map<String, String> sessionStorage;
+
+        SessionState(Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage) {
+            this.cookies = cookies;
+            this.localStorage = localStorage;
+            this.sessionStorage = sessionStorage;
+        }
+
+        boolean isExpired() {
+            Date now = new Date();
+            return cookies.stream().anyMatch(cookie -> cookie.getExpiry() != null && cookie.getExpiry().before(now));
+        }
+    }
+
+    /**
+     * Puts the driver's current page into the logged-in state for the credential.
+     *
+     * @param driver     session on the application's domain
+     * @param credential cache key, normally the login email
+     * @param isLoggedIn checks the page shows the user as logged in, without waiting
+     * @param uiLogin    logs in through the UI; only run on a cache miss
+     * @throws IllegalStateException when the UI login does not leave the page logged in; nothing is cached
+     */
+    public static void loginAs(WebDriver driver, String credential, BooleanSupplier isLoggedIn, Runnable uiLogin) {
+        String key = key(credential);
+        if (tryRestore(driver, key, isLoggedIn)) {
+            return;
+        }
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            // Another worker may have logged in while this one was waiting
+            if (tryRestore(driver, key, isLoggedIn)) {
+                return;
+            }
+            uiLogin.run();
+            if (!isLoggedIn.getAsBoolean()) {
+                throw new IllegalStateException("UI login as " + credential + " failed: the page does not show the user as logged in");
+            }
+            states.put(key, capture(driver));
+            uiLogins.incrementAndGet();
+            Log.info("Logged in through the UI and cached the session state for " + credential + ".");
+        }
+    }
+
+    /**
+     * Drops every cached state, e.g. after the account's password changed.
+     */
+    public static void clear() {
+        states.clear();
+    }
+
+    /**
+     * Logs how many logins were restored from the cache. Called once at the end of the suite.
+     */
+    public static void logSummary() {
+        if (restored.get() + uiLogins.get() > 0) {
+            Log.info("Session state cache: " + restored.get() + " login(s) restored, " + uiLogins.get() + " UI login(s).");
+        }
+    }
+
+    private static boolean tryRestore(WebDriver driver, String key, BooleanSupplier isLoggedIn) {
+        SessionState state = states.get(key);
+        if (state == null) {
+            return false;
+        }
+        if (state.isExpired()) {
+            states.remove(key, state);
+            return false;
+        }
+        inject(driver, state);
+        if (isLoggedIn.getAsBoolean()) {
+            restored.incrementAndGet();
+            Log.info("Restored cached login state for " + key + ".");
+            return true;
+        }
+        Log.warn("Cached login state for " + key + " was rejected by the server, logging in again.");
+        states.remove(key, state);
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SessionState capture(WebDriver driver) {
+        Map<String, Map<String, String>> storage = (Map<String, Map<String, String>>) ((JavascriptExecutor) driver).executeScript(
+                "var dump = function (s) { var o = {}; for (var i = 0; i < s.length; i++) { o[s.key(i)] = s.getItem(s.key(i)); } return o; };"
+                        + "return {local: dump(window.localStorage), session: dump(window.sessionStorage)};");
+        return new SessionState(driver.manage().getCookies(),
+                new HashMap<>(storage.get("local")), new HashMap<>(storage.get("session")));
+    }
+
+    private static void inject(WebDriver driver, SessionState state) {
+        if (driver instanceof HasCdp) {
+            // One round-trip for all cookies instead of one addCookie call each
+            List<Map<String, Object>> cookies = new ArrayList<>();
+            String url = driver.getCurrentUrl();
+            for (Cookie cookie : state.cookies) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("name", cookie.getName());
+                params.put("value", cookie.getValue());
+                if (cookie.getDomain() != null) {
+                    params.put("domain", cookie.getDomain());
+                } else {
+                    params.put("url", url);
+                }
+                params.put("path", cookie.getPath());
+                params.put("secure", cookie.isSecure());
+                params.put("httpOnly", cookie.isHttpOnly());
+                if (cookie.getExpiry() != null) {
+                    params.put("expires", cookie.getExpiry().getTime() / 1000);
+                }
+                if (cookie.getSameSite() != null) {
+                    params.put("sameSite", cookie.getSameSite());
+                }
+                cookies.add(params);
+            }
+            ((HasCdp) driver).executeCdpCommand("Network.setCookies", Map.of("cookies", cookies));
+        } else {
+            for (Cookie cookie : state.cookies) {
+                driver.manage().addCookie(cookie);
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript(
+                "for (var k in arguments[0]) { window.localStorage.setItem(k, arguments[0][k]); }"
+                        + "for (var k in arguments[1]) { window.sessionStorage.setItem(k, arguments[1][k]); }",
+                state.localStorage, state.sessionStorage);
+        driver.navigate().refresh();
+    }
+
+    private static String key(String credential) {
+        String scope = BaseClass.prop.getProperty("session.state.scope", "worker").trim();
+        return scope.equals("worker") ? Thread.currentThread().getName() + "/" + credential : credential;
+    }
+}
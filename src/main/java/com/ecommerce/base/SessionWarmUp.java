@@ -0,0 +1,126 @@
+package com.ecommerce.base;
+
+import com.ecommerce.utility.ExtentManager;
+import com.ecommerce.utility.Log;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Launches browser sessions in the background while the suite is starting, so the first
+ * test of each worker thread receives a browser that is already open on the application URL.
+ *
+ * Warm-up time is logged and added to the Extent report's system info,
+ * separately from the time of the tests themselves.
+ */
+public final class SessionWarmUp {
+
+    private static final Map<String, Queue<CompletableFuture<WebDriver>>> warmSessions = new ConcurrentHashMap<>();
+    private static ExecutorService executor;
+
+    private SessionWarmUp() {
+    }
+
+    /**
+     * Starts launching sessions in the background.
+     *
+     * @param sessionsPerBrowser number of sessions to pre-launch for each browser name
+     * @param launcher           creates a new session already navigated to the application URL
+     */
+    public static synchronized void start(Map<String, Integer> sessionsPerBrowser, Function<String, WebDriver> launcher) {
+        int total = sessionsPerBrowser.values().stream().mapToInt(Integer::intValue).sum();
+        if (total == 0) {
+            return;
+        }
+        int threads = Integer.parseInt(BaseClass.prop.getProperty("session.warmup.executorThreads", "3").trim());
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.min(threads, total), runnable -> {
+            Thread thread = new Thread(runnable, "browser-warmup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long started = System.currentTimeMillis();
+        List<CompletableFuture<WebDriver>> all = new ArrayList<>();
+        sessionsPerBrowser.forEach((browser, count) -> {
+            Queue<CompletableFuture<WebDriver>> queue =
+                    warmSessions.computeIfAbsent(browser, name -> new ConcurrentLinkedQueue<>());
+            for (int i = 0; i < count; i++) {
+                CompletableFuture<WebDriver> session = CompletableFuture.supplyAsync(() -> launcher.apply(browser), executor);
+                queue.offer(session);
+                all.add(session);
+            }
+        });
+        Log.info("Browser warm-up started: " + sessionsPerBrowser + " on " + Math.min(threads, total) + " thread(s).");
+
+        CompletableFuture.allOf(all.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+            long elapsed = System.currentTimeMillis() - started;
+            long ready = all.stream().filter(f -> !f.isCompletedExceptionally()).count();
+            String summary = ready + "/" + total + " session(s) in " + elapsed + " ms";
+            Log.info("Browser warm-up finished: " + summary);
+            ExtentManager.getInstance().setSystemInfo("Browser warm-up", summary);
+        });
+    }
+
+    /**
+     * Takes a pre-launched session for the browser, waiting for it if it is still starting.
+     *
+     * @param browser lower-case browser name
+     * @return warm WebDriver, or null when none is left or the warm launch failed
+     */
+    public static WebDriver take(String browser) {
+        Queue<CompletableFuture<WebDriver>> queue = warmSessions.get(browser);
+        CompletableFuture<WebDriver> session = queue == null ? null : queue.poll();
+        if (session == null) {
+            return null;
+        }
+        try {
+            WebDriver driver = session.join();
+            Log.info("Using pre-warmed " + browser + " session.");
+            return driver;
+        } catch (Exception e) {
+            Log.warn("Pre-warmed " + browser + " session failed to start, launching a new one: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Quits warm sessions that no test picked up and stops the warm-up executor.
+     */
+    public static synchronized void shutdown() {
+        for (Queue<CompletableFuture<WebDriver>> queue : warmSessions.values()) {
+            CompletableFuture<WebDriver> session;
+            while ((session = queue.poll()) != null) {
+                try {
+                    session.join().quit();
+                } catch (Exception e) {
+                    Log.warn("Failed to quit unused warm session: " + e.getMessage());
+                }
+            }
+        }
+        warmSessions.clear();
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * Returns true when the warm-up stage is switched on, by {@code -Dsession.warmup.enabled=true}
+     * or in Config.properties. It is off by default.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("session.warmup.enabled",
+                BaseClass.prop.getProperty("session.warmup.enabled", "false")).trim());
+    }
+}
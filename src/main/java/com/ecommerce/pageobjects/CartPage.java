@@ -1,18 +1,22 @@
 package com.ecommerce.pageobjects;
 
 import com.ecommerce.actiondriver.Action;
+import com.ecommerce.actiondriver.DomNode;
+import com.ecommerce.actiondriver.PageReady;
 import com.ecommerce.base.BaseClass;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object class representing the Add to Cart functionality.
@@ -23,40 +27,57 @@ public class CartPage extends BaseClass {
     private static final Logger log = LogManager.getLogger(CartPage.class);
     private final Action action = new Action();
 
+    // Requests allowed to stay open when waiting for network idle: ad and analytics long-polls never finish
+    private static final int BACKGROUND_REQUESTS = 2;
+
+    private static final By PRODUCT_INFO = By.className("productinfo");
+    private static final By CART_ROWS = By.xpath("//tr[contains(@id,'product')]");
+    private static final Map<String, By> CART_CELLS = Map.of(
+            "name", By.cssSelector("td.cart_description h4 a"),
+            "price", By.cssSelector("td.cart_price p"),
+            "quantity", By.cssSelector("td.cart_quantity button"),
+            "total", By.cssSelector("td.cart_total p"));
+
+    /**
+     * One row of the cart table. Amounts are in rupees.
+     */
+    public record CartItem(String name, int price, int quantity, int total) {
+    }
+
     // Page elements
     @FindBy(xpath = "//a[@href='/products']")
-    private WebElement productsBtn;
+    WebElement productsBtn;
 
     @FindBy(xpath = "(//div[@class='product-overlay']//a[text()='Add to cart'])[1]")
-    private WebElement firstProductAddToCartBtn;
+    WebElement firstProductAddToCartBtn;
 
     @FindBy(xpath = "(//div[@class='product-overlay']//a[text()='Add to cart'])[2]")
-    private WebElement secondProductAddToCartBtn;
+    WebElement secondProductAddToCartBtn;
 
     @FindBy(xpath = "//button[text()='Continue Shopping']")
-    private WebElement continueShoppingBtn;
+    WebElement continueShoppingBtn;
 
     @FindBy(xpath = "//u[text()='View Cart']")
-    private WebElement viewCartBtn;
+    WebElement viewCartBtn;
 
     @FindBy(xpath = "//tr[contains(@id,'product')]")
-    private List<WebElement> cartProducts;
+    List<WebElement> cartProducts;
 
     @FindBy(xpath = "//tr[contains(@id,'product')]/td[@class='cart_price']/p")
-    private List<WebElement> productPrices;
+    List<WebElement> productPrices;
 
     @FindBy(xpath = "//tr[contains(@id,'product')]/td[@class='cart_quantity']/button")
-    private List<WebElement> productQuantities;
+    List<WebElement> productQuantities;
 
     @FindBy(xpath = "//tr[contains(@id,'product')]/td[@class='cart_total']/p")
-    private List<WebElement> productTotalPrices;   
+    List<WebElement> productTotalPrices;   
 
     @FindBy(xpath = "//a[@class='cart_quantity_delete']")
-    private WebElement removeProductBtn;
+    WebElement removeProductBtn;
 
     // Constructor to initialize WebElements
     public CartPage() {
-        PageFactory.initElements(getDriver(), this);
+        CartPageBinding.bind(this, getDriver());
     }
 
     /**
@@ -77,9 +98,10 @@ public class CartPage extends BaseClass {
      */
     public void addFirstProductToCart() {
         try {
-            WebElement firstProduct = getDriver().findElements(By.className("productinfo")).get(0);
+            WebElement firstProduct = action.waitForElements(getDriver(), PRODUCT_INFO, 1).get(0);
             action.mouseHover(getDriver(), firstProduct);
             action.jsClick(getDriver(), firstProductAddToCartBtn);
+            action.waitForNetworkIdle(getDriver(), 500, BACKGROUND_REQUESTS);
             log.info("First product added to cart.");
         } catch (Exception e) {
             log.error("Failed to add first product to cart.", e);
@@ -92,9 +114,10 @@ public class CartPage extends BaseClass {
      */
     public void addSecondProductToCart() {
         try {
-            WebElement secondProduct = getDriver().findElements(By.className("productinfo")).get(1);
+            WebElement secondProduct = action.waitForElements(getDriver(), PRODUCT_INFO, 2).get(1);
             action.mouseHover(getDriver(), secondProduct);
             action.jsClick(getDriver(), secondProductAddToCartBtn);
+            action.waitForNetworkIdle(getDriver(), 500, BACKGROUND_REQUESTS);
             log.info("Second product added to cart.");
         } catch (Exception e) {
             log.error("Failed to add second product to cart.", e);
@@ -120,7 +143,7 @@ public class CartPage extends BaseClass {
      */
     public void clickViewCart() {
         try {
-            action.click(getDriver(), viewCartBtn);
+            action.clickAndWaitForPageLoad(getDriver(), viewCartBtn, PageReady.LOAD);
             log.info("Clicked on View Cart button.");
         } catch (Exception e) {
             log.error("Failed to click on View Cart button.", e);
@@ -128,6 +151,30 @@ public class CartPage extends BaseClass {
         }
     }
 
+    /**
+     * Reads every row of the cart table in one driver call.
+     *
+     * @return the cart's rows, in table order
+     */
+    public List<CartItem> getCartItems() {
+        try {
+            List<CartItem> items = new ArrayList<>();
+            for (DomNode row : action.readAll(getDriver(), CART_ROWS, CART_CELLS)) {
+                items.add(new CartItem(row.cell("name"), amount(row.cell("price")),
+                        amount(row.cell("quantity")), amount(row.cell("total"))));
+            }
+            log.info("Read " + items.size() + " cart row(s).");
+            return items;
+        } catch (Exception e) {
+            log.error("Failed to read cart rows.", e);
+            throw e;
+        }
+    }
+
+    private static int amount(String text) {
+        return Integer.parseInt(String.valueOf(text).replaceAll("[^\\d]", ""));
+    }
+
     /**
      * Returns the list of products added to the cart.
      *
@@ -192,19 +239,19 @@ public class CartPage extends BaseClass {
     
     // Page elements
     @FindBy(xpath = "//a[@href='/product_details/1']")
-    private WebElement viewProductBtn;
+    WebElement viewProductBtn;
 
     @FindBy(xpath = "//input[@id='quantity']")
-    private WebElement quantityInput;
+    WebElement quantityInput;
 
     @FindBy(xpath = "//button[normalize-space()='Add to cart']")
-    private WebElement addToCartBtn;
+    WebElement addToCartBtn;
 
     @FindBy(xpath = "//u[normalize-space()='View Cart']")
-    private WebElement viewCartButton;
+    WebElement viewCartButton;
 
     @FindBy(xpath = "//table[@id='cart_info_table']//tr[1]/td[4]/button")
-    private WebElement quantityInCart;
+    WebElement quantityInCart;
 
     
 
@@ -242,6 +289,7 @@ public class CartPage extends BaseClass {
     public void clickAddToCart() {
         try {
             action.click(getDriver(), addToCartBtn);
+            action.waitForNetworkIdle(getDriver(), 500, BACKGROUND_REQUESTS);
             log.info("Clicked on 'Add to cart' button.");
         } catch (Exception e) {
             log.error("Failed to click on 'Add to cart' button.", e);
@@ -254,7 +302,7 @@ public class CartPage extends BaseClass {
      */
     public void clickViewCartFromDetailPage() {
         try {
-            action.click(getDriver(), viewCartButton);
+            action.clickAndWaitForPageLoad(getDriver(), viewCartButton, PageReady.LOAD);
             log.info("Clicked on 'View Cart' button.");
         } catch (Exception e) {
             log.error("Failed to click on 'View Cart' button.", e);
@@ -269,7 +317,7 @@ public class CartPage extends BaseClass {
      */
     public String getCartQuantity() {
         try {
-            String quantity = quantityInCart.getText().trim();
+            String quantity = action.getText(quantityInCart).trim();
             log.info("Retrieved product quantity from cart: " + quantity);
             return quantity;
         } catch (Exception e) {
@@ -278,6 +326,15 @@ public class CartPage extends BaseClass {
         }
     }
 
+    /**
+     * Returns true when the cart has no product rows, without waiting for any to appear.
+     */
+    public boolean isCartEmpty() {
+        boolean empty = action.isAbsent(getDriver(), CART_ROWS);
+        log.info("Cart empty: " + empty);
+        return empty;
+    }
+
     /**
      * Clicks the 'X' button to remove product from cart.
      */
@@ -286,7 +343,10 @@ public class CartPage extends BaseClass {
             action.click(getDriver(), removeProductBtn);
             log.info("Clicked on remove (X) button for product in cart.");
             // Wait for the product to be removed from the cart
-            action.waitForCondition(getDriver(), driver -> getCartProducts().isEmpty(), 10, 500);
+            action.waitForNetworkIdle(getDriver(), 500, BACKGROUND_REQUESTS);
+            if (!action.waitForGone(getDriver(), CART_ROWS, Duration.ofSeconds(10))) {
+                throw new TimeoutException("Product was still in the cart 10s after removing it.");
+            }
         } catch (Exception e) {
             log.error("Failed to click on remove button.", e);
             throw e;
@@ -1,69 +1,68 @@
 package com.ecommerce.pageobjects;
 
 import com.ecommerce.actiondriver.Action;
+import com.ecommerce.actiondriver.FormFill;
+import com.ecommerce.actiondriver.PageReady;
+import com.ecommerce.actiondriver.WaitEngine;
 import com.ecommerce.base.BaseClass;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.time.Duration;
+
 public class CheckoutPage extends BaseClass {
 
     private static final Logger log = LogManager.getLogger(CheckoutPage.class);
     private final Action action = new Action();
 
+    // Requests allowed to stay open when waiting for network idle: ad and analytics long-polls never finish
+    private static final int BACKGROUND_REQUESTS = 2;
+
+    // Payment form, filled in one script execution
+    private static final By NAME_ON_CARD = By.name("name_on_card");
+    private static final By CARD_NUMBER = By.name("card_number");
+    private static final By CVC = By.name("cvc");
+    private static final By EXPIRY_MONTH = By.name("expiry_month");
+    private static final By EXPIRY_YEAR = By.name("expiry_year");
+
     public CheckoutPage() {
-        PageFactory.initElements(getDriver(), this);
+        CheckoutPageBinding.bind(this, getDriver());
     }
 
     @FindBy(xpath = "//a[contains(text(),'Cart')]")
-    private WebElement cartButton;
+    WebElement cartButton;
 
     @FindBy(xpath = "//a[text()='Proceed To Checkout']")
-    private WebElement proceedToCheckoutBtn;
+    WebElement proceedToCheckoutBtn;
 
     @FindBy(xpath = "//u[text()='Register / Login']")
-    private WebElement registerLoginBtn;
+    WebElement registerLoginBtn;
 
     @FindBy(xpath = "//textarea[@name='message']")
-    private WebElement commentTextArea;
+    WebElement commentTextArea;
 
     @FindBy(xpath = "//a[text()='Place Order']")
-    private WebElement placeOrderBtn;
-
-    @FindBy(name = "name_on_card")
-    private WebElement nameOnCard;
-
-    @FindBy(name = "card_number")
-    private WebElement cardNumber;
-
-    @FindBy(name = "cvc")
-    private WebElement cvc;
-
-    @FindBy(name = "expiry_month")
-    private WebElement expiryMonth;
-
-    @FindBy(name = "expiry_year")
-    private WebElement expiryYear;
+    WebElement placeOrderBtn;
 
     @FindBy(id = "submit")
-    private WebElement payAndConfirmOrderBtn;
+    WebElement payAndConfirmOrderBtn;
 
     @FindBy(xpath = "//p[contains(text(),'Congratulations! Your order has been confirmed!')]")
-    private WebElement successMessage;
+    WebElement successMessage;
 
     @FindBy(xpath = "//a[contains(text(),'Delete Account')]")
-    private WebElement deleteAccountLink;
+    WebElement deleteAccountLink;
 
     @FindBy(xpath = "//b[contains(text(),'Account Deleted!')]")
-    private WebElement accountDeletedMsg;
+    WebElement accountDeletedMsg;
 
     public void clickCart() {
         try {
-            action.click(getDriver(), cartButton);
+            action.clickAndWaitForPageLoad(getDriver(), cartButton, PageReady.LOAD);
             log.info("Clicked on Cart button.");
         } catch (Exception e) {
             log.error("Failed to click on Cart button.", e);
@@ -73,7 +72,7 @@ public class CheckoutPage extends BaseClass {
 
     public void clickProceedToCheckout() {
         try {
-            action.click(getDriver(), proceedToCheckoutBtn);
+            action.clickAndWaitForPageLoad(getDriver(), proceedToCheckoutBtn, PageReady.DOM_QUIET);
             log.info("Clicked on Proceed To Checkout button.");
         } catch (Exception e) {
             log.error("Failed to click Proceed To Checkout.", e);
@@ -104,6 +103,7 @@ public class CheckoutPage extends BaseClass {
     public void clickPlaceOrder() {
         try {
             action.click(getDriver(), placeOrderBtn);
+            action.waitForNetworkIdle(getDriver(), 500, BACKGROUND_REQUESTS);
             log.info("Clicked on Place Order button.");
         } catch (Exception e) {
             log.error("Failed to click on Place Order.", e);
@@ -113,11 +113,15 @@ public class CheckoutPage extends BaseClass {
 
     public void enterPaymentDetails(String name, String cardNum, String cvcVal, String expMonth, String expYear) {
         try {
-            action.type(nameOnCard, name);
-            action.type(cardNumber, cardNum);
-            action.type(cvc, cvcVal);
-            action.type(expiryMonth, expMonth);
-            action.type(expiryYear, expYear);
+            boolean filled = action.fillForm(getDriver(), new FormFill()
+                    .type(NAME_ON_CARD, name)
+                    .type(CARD_NUMBER, cardNum)
+                    .type(CVC, cvcVal)
+                    .type(EXPIRY_MONTH, expMonth)
+                    .type(EXPIRY_YEAR, expYear));
+            if (!filled) {
+                throw new IllegalStateException("Payment details form was not filled.");
+            }
             log.info("Entered payment details.");
         } catch (Exception e) {
             log.error("Failed to enter payment details.", e);
@@ -128,6 +132,7 @@ public class CheckoutPage extends BaseClass {
     public void clickPayAndConfirm() {
         try {
             action.click(getDriver(), payAndConfirmOrderBtn);
+            action.waitForNetworkIdle(getDriver(), 500, BACKGROUND_REQUESTS);
             log.info("Clicked on Pay and Confirm Order.");
         } catch (Exception e) {
             log.error("Failed to click Pay and Confirm Order.", e);
@@ -137,14 +142,9 @@ public class CheckoutPage extends BaseClass {
 
     public boolean isOrderSuccessMessageVisible() {
         try {
-        	  // FluentWait for WebElement
-            action.waitForCondition(getDriver(),
-                    ExpectedConditions.visibilityOf(successMessage),
-                    15,
-                    500
-            );
-
-            boolean visible = action.isDisplayed(getDriver(), successMessage);
+            WaitEngine.until(getDriver(), successMessage, ExpectedConditions.visibilityOf(successMessage), Duration.ofSeconds(15));
+
+            boolean visible = action.waitForDisplayed(getDriver(), successMessage);
             log.info("Order success message visibility: " + visible);
             return visible;
         } catch (Exception e) {
@@ -165,7 +165,7 @@ public class CheckoutPage extends BaseClass {
 
     public boolean isAccountDeletedVisible() {
         try {
-            boolean visible = action.isDisplayed(getDriver(), accountDeletedMsg);
+            boolean visible = action.waitForDisplayed(getDriver(), accountDeletedMsg);
             log.info("Account Deleted message visibility: " + visible);
             return visible;
         } catch (Exception e) {
@@ -1,14 +1,15 @@
 package com.ecommerce.pageobjects;
 
 import com.ecommerce.actiondriver.Action;
+import com.ecommerce.actiondriver.PageReady;
+import com.ecommerce.actiondriver.WaitEngine;
 import com.ecommerce.base.BaseClass;
+import com.ecommerce.base.SessionStateCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
@@ -23,32 +24,32 @@ public class LoginPage extends BaseClass {
 
     // Page elements
     @FindBy(xpath = "//img[@alt='Website for automation practice']")
-    private WebElement homePageLogo;
+    WebElement homePageLogo;
 
     @FindBy(xpath = "//h2[contains(text(),'Login to your account')]")
-    private WebElement loginTitle;
+    WebElement loginTitle;
 
     @FindBy(xpath = "//a[contains(text(),'Signup / Login')]")
-    private WebElement signupLoginLink;
+    WebElement signupLoginLink;
 
     @FindBy(xpath = "//input[@data-qa='login-email']")
-    private WebElement emailInput;
+    WebElement emailInput;
 
     @FindBy(xpath = "//input[@data-qa='login-password']")
-    private WebElement passwordInput;
+    WebElement passwordInput;
 
     @FindBy(xpath = "//button[@data-qa='login-button']")
-    private WebElement loginBtn;
+    WebElement loginBtn;
 
     @FindBy(xpath = "//a[contains(text(),'Logged in as')]")
-    private WebElement loggedInText;
+    WebElement loggedInText;
 
     @FindBy(xpath = "//p[contains(text(), 'Your email or password is incorrect!')]")
-    private WebElement loginErrorMsg;
+    WebElement loginErrorMsg;
 
     // Constructor to initialize WebElements
     public LoginPage() {
-        PageFactory.initElements(getDriver(), this);
+        LoginPageBinding.bind(this, getDriver());
     }
 
     /**
@@ -56,7 +57,7 @@ public class LoginPage extends BaseClass {
      */
     public boolean isHomePageVisible() {
         try {
-            boolean displayed = action.isDisplayed(getDriver(), homePageLogo);
+            boolean displayed = action.waitForDisplayed(getDriver(), homePageLogo);
             log.info("Homepage logo visibility check passed.");
             log.debug("Logo displayed: " + displayed);
             return displayed;
@@ -71,7 +72,7 @@ public class LoginPage extends BaseClass {
      */
     public void goToLoginPage() {
         try {
-            action.click(getDriver(), signupLoginLink);
+            action.clickAndWaitForPageLoad(getDriver(), signupLoginLink, PageReady.LOAD);
             log.info("Clicked on Signup/Login link.");
         } catch (Exception e) {
             log.error("Unable to click on Signup/Login link.", e);
@@ -84,8 +85,7 @@ public class LoginPage extends BaseClass {
      */
     public boolean isLoginTitleVisible() {
         try {
-            WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(20));
-            wait.until(ExpectedConditions.visibilityOf(loginTitle));
+            WaitEngine.until(getDriver(), loginTitle, ExpectedConditions.visibilityOf(loginTitle), Duration.ofSeconds(20));
             log.info("Login form title is visible.");
             return true;
         } catch (Exception e) {
@@ -109,7 +109,7 @@ public class LoginPage extends BaseClass {
             action.type(passwordInput, password);
 
             log.info("Clicking Login button.");
-            action.click(getDriver(), loginBtn);
+            action.clickAndWaitForPageLoad(getDriver(), loginBtn, PageReady.LOAD);
 
             log.info("Login submitted successfully.");
         } catch (Exception e) {
@@ -118,6 +118,35 @@ public class LoginPage extends BaseClass {
         }
     }
 
+    /**
+     * Makes the current session logged in as the given user. The first call per credential logs in
+     * through the UI; later calls restore the cached cookies and storage instead.
+     *
+     * @param email    the user's email
+     * @param password the user's password
+     */
+    public void startLoggedInAs(String email, String password) {
+        try {
+            SessionStateCache.loginAs(getDriver(), email,
+                    this::isLoggedIn,
+                    () -> {
+                        goToLoginPage();
+                        doLogin(email, password);
+                    });
+            log.info("Session is logged in as: " + email);
+        } catch (Exception e) {
+            log.error("Unable to start logged in as: " + email, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true when the page shows a user as logged in, without waiting.
+     */
+    public boolean isLoggedIn() {
+        return !action.isAbsent(getDriver(), loggedInText);
+    }
+
     /**
      * Retrieves the logged-in user's name after successful login.
      *
@@ -125,7 +154,7 @@ public class LoginPage extends BaseClass {
      */
     public String getLoggedInUsername() {
         try {
-            String actualText = loggedInText.getText(); // e.g., "Logged in as John"
+            String actualText = action.getText(loggedInText); // e.g., "Logged in as John"
             String username = actualText.replace("Logged in as ", "").trim();
             log.info("Retrieved logged-in username.");
             log.debug("Username extracted: " + username);
@@ -143,8 +172,7 @@ public class LoginPage extends BaseClass {
      */
     public String getLoginErrorMessage() {
         try {
-            WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(10));
-            wait.until(ExpectedConditions.visibilityOf(loginErrorMsg));
+            WaitEngine.until(getDriver(), loginErrorMsg, ExpectedConditions.visibilityOf(loginErrorMsg), Duration.ofSeconds(10));
             String errorMsg = loginErrorMsg.getText();
             log.info("Login error message displayed: " + errorMsg);
             return errorMsg;
@@ -153,4 +181,13 @@ public class LoginPage extends BaseClass {
             return null;
         }
     }
+
+    /**
+     * Returns true when no login error message is shown, without waiting for one to appear.
+     */
+    public boolean isLoginErrorMessageAbsent() {
+        boolean absent = action.isAbsent(getDriver(), loginErrorMsg);
+        log.info("Login error message absent: " + absent);
+        return absent;
+    }
 }
@@ -0,0 +1,194 @@
+package com.ecommerce.pageobjects;
+
+import com.ecommerce.actiondriver.Action;
+import com.ecommerce.base.BaseClass;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Brings the application into the state a test needs before its own steps start.
+ *
+ * A test declares the states it needs, in order:
+ * <pre>
+ *     Preconditions.given().homePage().loggedInAs(email, password).cartContains(2).onCheckoutPage();
+ * </pre>
+ * Each state is reached through the cheapest route that works (direct URL, the site's own
+ * backend endpoint, cached login state), falling back to the UI. States already reached in the
+ * current test are remembered per thread and not rebuilt; tests that undo a state call {@link #forget()}.
+ */
+public class Preconditions extends BaseClass {
+
+    private static final Logger log = LogManager.getLogger(Preconditions.class);
+    private static final ThreadLocal<Memo> memo = new ThreadLocal<>();
+
+    private static final By HOME_LOGO = By.xpath("//img[@alt='Website for automation practice']");
+    private static final By REVIEW_ORDER = By.xpath("//h2[contains(text(),'Review Your Order')]");
+
+    private final Action action = new Action();
+
+    /**
+     * States reached by the current test on the current session.
+     */
+    private static final class Memo {
+        private final WebDriver driver;
+        private final ITestResult test;
+        private final Set<String> reached = new HashSet<>();
+
+        Memo(WebDriver driver, ITestResult test) {
+            this.driver = driver;
+            this.test = test;
+        }
+    }
+
+    /**
+     * One way of reaching a state.
+     */
+    private static final class Route {
+        private final String name;
+        private final BooleanSupplier attempt;
+
+        Route(String name, BooleanSupplier attempt) {
+            this.name = name;
+            this.attempt = attempt;
+        }
+    }
+
+    /**
+     * Starts a declaration of preconditions for the current test.
+     */
+    public static Preconditions given() {
+        return new Preconditions();
+    }
+
+    /**
+     * Forgets the states reached so far, e.g. after a test logged out or emptied the cart.
+     */
+    public static void forget() {
+        memo.remove();
+    }
+
+    /**
+     * The home page is open.
+     */
+    public Preconditions homePage() {
+        return reach("home page", false,
+                new Route("current page", () -> isOn("") && !action.isAbsent(getDriver(), HOME_LOGO)),
+                new Route("direct URL", () -> open("") && !action.isAbsent(getDriver(), HOME_LOGO)));
+    }
+
+    /**
+     * The session is logged in as the given user. Uses the cached login state when there is one.
+     */
+    public Preconditions loggedInAs(String email, String password) {
+        return reach("logged in as " + email, true,
+                new Route("cached state or UI login", () -> {
+                    LoginPage loginPage = new LoginPage();
+                    loginPage.startLoggedInAs(email, password);
+                    return loginPage.isLoggedIn();
+                }));
+    }
+
+    /**
+     * The cart contains the product with the given id.
+     */
+    public Preconditions cartContains(int productId) {
+        return reach("cart has product " + productId, true,
+                new Route("backend call", () -> addToCartRequest(productId)),
+                new Route("UI", () -> {
+                    open("product_details/" + productId);
+                    new CartPage().clickAddToCart();
+                    return open("view_cart") && !action.isAbsent(getDriver(), cartRow(productId));
+                }));
+    }
+
+    /**
+     * The checkout page is open. Needs a logged-in session and a non-empty cart.
+     */
+    public Preconditions onCheckoutPage() {
+        return reach("checkout page", false,
+                new Route("direct URL", () -> open("checkout") && !action.isAbsent(getDriver(), REVIEW_ORDER)),
+                new Route("UI", () -> {
+                    CheckoutPage checkoutPage = new CheckoutPage();
+                    checkoutPage.clickCart();
+                    checkoutPage.clickProceedToCheckout();
+                    return !action.isAbsent(getDriver(), REVIEW_ORDER);
+                }));
+    }
+
+    /**
+     * Reaches a state through the first route that works.
+     *
+     * @param state    description of the state, also its memo key
+     * @param reusable whether the state survives navigation and can be skipped once reached
+     * @param routes   routes in order of cost, cheapest first
+     */
+    private Preconditions reach(String state, boolean reusable, Route... routes) {
+        Memo current = currentMemo();
+        if (reusable && current.reached.contains(state)) {
+            log.info("Precondition '" + state + "' already met.");
+            return this;
+        }
+        for (Route route : routes) {
+            long started = System.currentTimeMillis();
+            try {
+                if (route.attempt.getAsBoolean()) {
+                    current.reached.add(state);
+                    log.info("Precondition '" + state + "' met via " + route.name + " in "
+                            + (System.currentTimeMillis() - started) + " ms.");
+                    return this;
+                }
+                log.warn("Precondition '" + state + "' not met via " + route.name + ", trying the next route.");
+            } catch (Exception e) {
+                log.warn("Precondition '" + state + "' failed via " + route.name + ": " + e.getMessage());
+            }
+        }
+        throw new IllegalStateException("Could not reach precondition: " + state);
+    }
+
+    private Memo currentMemo() {
+        Memo current = memo.get();
+        ITestResult test = Reporter.getCurrentTestResult();
+        if (current == null || current.driver != getDriver() || current.test != test) {
+            current = new Memo(getDriver(), test);
+            memo.set(current);
+        }
+        return current;
+    }
+
+    /**
+     * The cart page's row of the product with the given id.
+     */
+    private static By cartRow(int productId) {
+        return By.id("product-" + productId);
+    }
+
+    private boolean isOn(String path) {
+        return getDriver().getCurrentUrl().equals(prop.getProperty("url") + path);
+    }
+
+    private boolean open(String path) {
+        getDriver().get(prop.getProperty("url") + path);
+        return true;
+    }
+
+    /**
+     * Calls the endpoint the site's own 'Add to cart' button uses, with the session's cookies.
+     */
+    private boolean addToCartRequest(int productId) {
+        Object ok = ((JavascriptExecutor) getDriver()).executeAsyncScript(
+                "var done = arguments[arguments.length - 1];"
+                        + "fetch('/add_to_cart/' + arguments[0], {credentials: 'same-origin'})"
+                        + ".then(function (r) { done(r.ok); }, function () { done(false); });",
+                productId);
+        return Boolean.TRUE.equals(ok);
+    }
+}
@@ -5,7 +5,6 @@ import com.ecommerce.base.BaseClass;
 import com.ecommerce.utility.Log;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -21,43 +20,43 @@ public class ProductsPage extends BaseClass {
 
     // WebElements
     @FindBy(xpath = "//img[@alt='Website for automation practice']")
-    private WebElement homePageLogo;
+    WebElement homePageLogo;
 
     @FindBy(xpath = "//a[@href='/products']")
-    private WebElement productsButton;
+    WebElement productsButton;
 
     @FindBy(xpath = "//h2[contains(text(),'All Products')]")
-    private WebElement allProductsTitle;
+    WebElement allProductsTitle;
 
     @FindBy(xpath = "//div[@class='features_items']//div[@class='product-image-wrapper']")
-    private List<WebElement> productsList;
+    List<WebElement> productsList;
 
     @FindBy(xpath = "(//a[contains(text(),'View Product')])[1]")
-    private WebElement firstViewProductLink;
+    WebElement firstViewProductLink;
 
     @FindBy(xpath = "//div[@class='product-information']//h2")
-    private WebElement productName;
+    WebElement productName;
 
     @FindBy(xpath = "//div[@class='product-information']//p[contains(text(),'Category')]")
-    private WebElement productCategory;
+    WebElement productCategory;
 
     @FindBy(xpath = "//div[@class='product-information']//span/span")
-    private WebElement productPrice;
+    WebElement productPrice;
 
     @FindBy(xpath = "//div[@class='product-information']//b[contains(text(),'Availability')]")
-    private WebElement productAvailability;
+    WebElement productAvailability;
 
     @FindBy(xpath = "//div[@class='product-information']//b[contains(text(),'Condition')]")
-    private WebElement productCondition;
+    WebElement productCondition;
 
     @FindBy(xpath = "//div[@class='product-information']//b[contains(text(),'Brand')]")
-    private WebElement productBrand;
+    WebElement productBrand;
 
     /**
      * Constructor to initialize web elements.
      */
     public ProductsPage() {
-        PageFactory.initElements(getDriver(), this);
+        ProductsPageBinding.bind(this, getDriver());
     }
 
     /**
@@ -66,7 +65,7 @@ public class ProductsPage extends BaseClass {
     public boolean isHomePageVisible() {
         try {
             log.info("Checking if home page logo is displayed...");
-            return action.isDisplayed(getDriver(), homePageLogo);
+            return action.waitForDisplayed(getDriver(), homePageLogo);
         } catch (Exception e) {
             log.error("Exception in isHomePageVisible: ", e);
             return false;
@@ -91,7 +90,7 @@ public class ProductsPage extends BaseClass {
     public boolean isAllProductsPageVisible() {
         try {
             log.info("Checking if 'All Products' title is visible...");
-            return action.isDisplayed(getDriver(), allProductsTitle);
+            return action.waitForDisplayed(getDriver(), allProductsTitle);
         } catch (Exception e) {
             log.error("Exception in isAllProductsPageVisible: ", e);
             return false;
@@ -130,7 +129,7 @@ public class ProductsPage extends BaseClass {
     public boolean isProductNameVisible() {
         try {
             log.info("Checking if product name is visible...");
-            return action.isDisplayed(getDriver(), productName);
+            return action.waitForDisplayed(getDriver(), productName);
         } catch (Exception e) {
             log.error("Exception in isProductNameVisible: ", e);
             return false;
@@ -143,7 +142,7 @@ public class ProductsPage extends BaseClass {
     public boolean isProductCategoryVisible() {
         try {
             log.info("Checking if product category is visible...");
-            return action.isDisplayed(getDriver(), productCategory);
+            return action.waitForDisplayed(getDriver(), productCategory);
         } catch (Exception e) {
             log.error("Exception in isProductCategoryVisible: ", e);
             return false;
@@ -156,7 +155,7 @@ public class ProductsPage extends BaseClass {
     public boolean isProductPriceVisible() {
         try {
             log.info("Checking if product price is visible...");
-            return action.isDisplayed(getDriver(), productPrice);
+            return action.waitForDisplayed(getDriver(), productPrice);
         } catch (Exception e) {
             log.error("Exception in isProductPriceVisible: ", e);
             return false;
@@ -169,7 +168,7 @@ public class ProductsPage extends BaseClass {
     public boolean isProductAvailabilityVisible() {
         try {
             log.info("Checking if product availability is visible...");
-            return action.isDisplayed(getDriver(), productAvailability);
+            return action.waitForDisplayed(getDriver(), productAvailability);
         } catch (Exception e) {
             log.error("Exception in isProductAvailabilityVisible: ", e);
             return false;
@@ -182,7 +181,7 @@ public class ProductsPage extends BaseClass {
     public boolean isProductConditionVisible() {
         try {
             log.info("Checking if product condition is visible...");
-            return action.isDisplayed(getDriver(), productCondition);
+            return action.waitForDisplayed(getDriver(), productCondition);
         } catch (Exception e) {
             log.error("Exception in isProductConditionVisible: ", e);
             return false;
@@ -195,7 +194,7 @@ public class ProductsPage extends BaseClass {
     public boolean isProductBrandVisible() {
         try {
             log.info("Checking if product brand is visible...");
-            return action.isDisplayed(getDriver(), productBrand);
+            return action.waitForDisplayed(getDriver(), productBrand);
         } catch (Exception e) {
             log.error("Exception in isProductBrandVisible: ", e);
             return false;
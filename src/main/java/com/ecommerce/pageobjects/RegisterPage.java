@@ -1,12 +1,13 @@
 package com.ecommerce.pageobjects;
 
 import com.ecommerce.actiondriver.Action;
+import com.ecommerce.actiondriver.FormFill;
 import com.ecommerce.base.BaseClass;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 import java.util.Map;
 
@@ -19,94 +20,60 @@ public class RegisterPage extends BaseClass {
     private static final Logger log = LogManager.getLogger(RegisterPage.class);
     private final Action action = new Action();
 
+    // Account details form, filled in one script execution
+    private static final By MR_TITLE = By.id("id_gender1");
+    private static final By MRS_TITLE = By.id("id_gender2");
+    private static final By PASSWORD = By.id("password");
+    private static final By DAY = By.id("days");
+    private static final By MONTH = By.id("months");
+    private static final By YEAR = By.id("years");
+    private static final By NEWSLETTER = By.id("newsletter");
+    private static final By OFFERS = By.id("optin");
+    private static final By FIRST_NAME = By.id("first_name");
+    private static final By LAST_NAME = By.id("last_name");
+    private static final By COMPANY = By.id("company");
+    private static final By ADDRESS1 = By.id("address1");
+    private static final By ADDRESS2 = By.id("address2");
+    private static final By COUNTRY = By.id("country");
+    private static final By STATE = By.id("state");
+    private static final By CITY = By.id("city");
+    private static final By ZIPCODE = By.id("zipcode");
+    private static final By MOBILE = By.id("mobile_number");
+
     // Page elements
     @FindBy(xpath = "//a[contains(text(),'Signup / Login')]")
-    private WebElement signupLoginLink;
+    WebElement signupLoginLink;
 
     @FindBy(name = "name")
-    private WebElement nameField;
+    WebElement nameField;
 
     @FindBy(xpath = "//input[@data-qa='signup-email']")
-    private WebElement emailField;
+    WebElement emailField;
 
     @FindBy(xpath = "//button[contains(text(),'Signup')]")
-    private WebElement signupBtn;
-
-    @FindBy(id = "id_gender1")
-    private WebElement mrTitleRadio;
-
-    @FindBy(id = "id_gender2")
-    private WebElement mrsTitleRadio;
-
-    @FindBy(id = "password")
-    private WebElement passwordField;
-
-    @FindBy(id = "days")
-    private WebElement dayDropdown;
-
-    @FindBy(id = "months")
-    private WebElement monthDropdown;
-
-    @FindBy(id = "years")
-    private WebElement yearDropdown;
-
-    @FindBy(id = "newsletter")
-    private WebElement newsletterCheckbox;
-
-    @FindBy(id = "optin")
-    private WebElement offersCheckbox;
-
-    @FindBy(id = "first_name")
-    private WebElement firstName;
-
-    @FindBy(id = "last_name")
-    private WebElement lastName;
-
-    @FindBy(id = "company")
-    private WebElement company;
-
-    @FindBy(id = "address1")
-    private WebElement address1;
-
-    @FindBy(id = "address2")
-    private WebElement address2;
-
-    @FindBy(id = "country")
-    private WebElement country;
-
-    @FindBy(id = "state")
-    private WebElement state;
-
-    @FindBy(id = "city")
-    private WebElement city;
-
-    @FindBy(id = "zipcode")
-    private WebElement zipcode;
-
-    @FindBy(id = "mobile_number")
-    private WebElement mobile;
+    WebElement signupBtn;
 
     @FindBy(xpath = "//button[contains(text(),'Create Account')]")
-    private WebElement createAccountBtn;
+    WebElement createAccountBtn;
 
     @FindBy(xpath = "//b[contains(text(),'Account Created!')]")
-    private WebElement accountCreatedMsg;
+    WebElement accountCreatedMsg;
 
     @FindBy(xpath = "//a[@data-qa='continue-button']")
-    private WebElement continueButton;
+    WebElement continueButton;
 
     @FindBy(xpath = "//a[contains(text(),'Logged in as')]")
-    private WebElement loggedInAsUsername;
+    WebElement loggedInAsUsername;
 
     @FindBy(xpath = "//a[contains(text(),'Delete Account')]")
-    private WebElement deleteAccountLink;
+    WebElement deleteAccountLink;
 
     @FindBy(xpath = "//b[contains(text(),'Account Deleted!')]")
-    private WebElement accountDeletedMsg;
+    WebElement accountDeletedMsg;
 
     // Constructor
     public RegisterPage() {
-        PageFactory.initElements(getDriver(), this);
+        RegisterPageBinding.bind(this, getDriver());
     }
     
  // Helper method to remove decimal from dropdown values
@@ -152,61 +119,58 @@ public class RegisterPage extends BaseClass {
      */
     public void selectTitle(String title) {
         try {
-            if (title.equalsIgnoreCase("Mr")) {
-                action.click(getDriver(), mrTitleRadio);
-                log.debug("Selected title: Mr");
-            } else if (title.equalsIgnoreCase("Mrs")) {
-                action.click(getDriver(), mrsTitleRadio);
-                log.debug("Selected title: Mrs");
-            } else {
-                throw new IllegalArgumentException("Invalid title: " + title);
+            if (!action.fillForm(getDriver(), new FormFill().click(titleRadio(title)))) {
+                throw new IllegalStateException("Title '" + title + "' was not selected.");
             }
+            log.debug("Selected title: " + title);
         } catch (Exception e) {
             log.error("Failed to select title.", e);
             throw e;
         }
     }
 
+    private By titleRadio(String title) {
+        if (title.equalsIgnoreCase("Mr")) {
+            return MR_TITLE;
+        } else if (title.equalsIgnoreCase("Mrs")) {
+            return MRS_TITLE;
+        }
+        throw new IllegalArgumentException("Invalid title: " + title);
+    }
+
     /**
-     * Fills all account details using provided data.
+     * Fills all account details using provided data, in one script execution.
      */
     public void fillAccountDetails(Map<String, String> data) {
         try {
-            selectTitle(data.get("Title"));
-            action.type(passwordField, data.get("Password"));
-            
             // Clean dropdown values to avoid decimal issues like 12.0
             String day = cleanDropdownValue(data.get("Day"));
             String month = cleanDropdownValue(data.get("Month"));
             String year = cleanDropdownValue(data.get("Year"));
-
-            action.selectByVisibleText(dayDropdown, day);
-            action.selectByVisibleText(monthDropdown, month);
-            action.selectByVisibleText(yearDropdown, year);
             log.debug("Selecting DOB: " + day + "-" + month + "-" + year);
 
-
-            if (Boolean.parseBoolean(data.get("Newsletter"))) {
-                action.click(getDriver(), newsletterCheckbox);
-                log.debug("Subscribed to newsletter.");
+            FormFill form = new FormFill()
+                    .click(titleRadio(data.get("Title")))
+                    .type(PASSWORD, data.get("Password"))
+                    .select(DAY, day)
+                    .select(MONTH, month)
+                    .select(YEAR, year)
+                    .check(NEWSLETTER, Boolean.parseBoolean(data.get("Newsletter")))
+                    .check(OFFERS, Boolean.parseBoolean(data.get("Offers")))
+                    .type(FIRST_NAME, data.get("FirstName"))
+                    .type(LAST_NAME, data.get("LastName"))
+                    .type(COMPANY, data.get("Company"))
+                    .type(ADDRESS1, data.get("Address"))
+                    .type(ADDRESS2, data.get("Address2"))
+                    .select(COUNTRY, data.get("Country"))
+                    .type(STATE, data.get("State"))
+                    .type(CITY, data.get("City"))
+                    .type(ZIPCODE, data.get("Zip"))
+                    .type(MOBILE, data.get("Mobile"));
+            if (!action.fillForm(getDriver(), form)) {
+                throw new IllegalStateException("Account details form was not filled.");
             }
 
-            if (Boolean.parseBoolean(data.get("Offers"))) {
-                action.click(getDriver(), offersCheckbox);
-                log.debug("Subscribed to special offers.");
-            }
-
-            action.type(firstName, data.get("FirstName"));
-            action.type(lastName, data.get("LastName"));
-            action.type(company, data.get("Company"));
-            action.type(address1, data.get("Address"));
-            action.type(address2, data.get("Address2"));
-            action.selectByVisibleText(country, data.get("Country"));
-            action.type(state, data.get("State"));
-            action.type(city, data.get("City"));
-            action.type(zipcode, data.get("Zip"));
-            action.type(mobile, data.get("Mobile"));
-
             action.click(getDriver(), createAccountBtn);
             log.info("Account details submitted for creation.");
         } catch (Exception e) {
@@ -220,7 +184,7 @@ public class RegisterPage extends BaseClass {
      */
     public boolean isAccountCreatedVisible() {
         try {
-            boolean visible = action.isDisplayed(getDriver(), accountCreatedMsg);
+            boolean visible = action.waitForDisplayed(getDriver(), accountCreatedMsg);
             log.info("'Account Created!' message visibility: " + visible);
             return visible;
         } catch (Exception e) {
@@ -247,7 +211,7 @@ public class RegisterPage extends BaseClass {
      */
     public boolean isLoggedInAsVisible() {
         try {
-            boolean visible = action.isDisplayed(getDriver(), loggedInAsUsername);
+            boolean visible = action.waitForDisplayed(getDriver(), loggedInAsUsername);
             log.info("'Logged in as' text visibility: " + visible);
             return visible;
         } catch (Exception e) {
@@ -274,7 +238,7 @@ public class RegisterPage extends BaseClass {
      */
     public boolean isAccountDeletedVisible() {
         try {
-            boolean visible = action.isDisplayed(getDriver(), accountDeletedMsg);
+            boolean visible = action.waitForDisplayed(getDriver(), accountDeletedMsg);
             log.info("'Account Deleted!' message visibility: " + visible);
             return visible;
         } catch (Exception e) {
@@ -1,14 +1,17 @@
 package com.ecommerce.pageobjects;
 
 import com.ecommerce.actiondriver.Action;
+import com.ecommerce.actiondriver.DomNode;
 import com.ecommerce.base.BaseClass;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object class representing the Search Products Page.
@@ -21,23 +24,34 @@ public class SearchProductsPage extends BaseClass {
 
     // Page elements
     @FindBy(xpath = "//a[@href='/products']")
-    private WebElement productsBtn;
+    WebElement productsBtn;
 
     @FindBy(id = "search_product")
-    private WebElement searchInput;
+    WebElement searchInput;
 
     @FindBy(id = "submit_search")
-    private WebElement searchButton;
+    WebElement searchButton;
 
     @FindBy(xpath = "//h2[text()='Searched Products']")
-    private WebElement searchedProductsTitle;
+    WebElement searchedProductsTitle;
 
     @FindBy(xpath = "//div[@class='features_items']/div")
-    private List<WebElement> productList;
+    List<WebElement> productList;
+
+    private static final By PRODUCT_CARDS = By.xpath("//div[@class='features_items']/div[.//div[contains(@class,'productinfo')]]");
+    private static final Map<String, By> PRODUCT_CELLS = Map.of(
+            "name", By.cssSelector(".productinfo p"),
+            "price", By.cssSelector(".productinfo h2"));
+
+    /**
+     * One product card in the search results.
+     */
+    public record Product(String name, String price) {
+    }
 
     // Constructor to initialize WebElements
     public SearchProductsPage() {
-        PageFactory.initElements(getDriver(), this);
+        SearchProductsPageBinding.bind(this, getDriver());
     }
 
     /**
@@ -77,7 +91,7 @@ public class SearchProductsPage extends BaseClass {
      */
     public boolean isSearchedProductsTitleVisible() {
         try {
-            boolean visible = action.isDisplayed(getDriver(), searchedProductsTitle);
+            boolean visible = action.waitForDisplayed(getDriver(), searchedProductsTitle);
             log.info("'Searched Products' title visibility: " + visible);
             return visible;
         } catch (Exception e) {
@@ -86,6 +100,25 @@ public class SearchProductsPage extends BaseClass {
         }
     }
 
+    /**
+     * Reads the name and price of every searched product in one driver call.
+     *
+     * @return the result cards, in page order
+     */
+    public List<Product> getSearchedProductDetails() {
+        try {
+            List<Product> products = new ArrayList<>();
+            for (DomNode card : action.readAll(getDriver(), PRODUCT_CARDS, PRODUCT_CELLS)) {
+                products.add(new Product(card.cell("name"), card.cell("price")));
+            }
+            log.info("Read " + products.size() + " searched product(s).");
+            return products;
+        } catch (Exception e) {
+            log.error("Failed to read searched products.", e);
+            throw e;
+        }
+    }
+
     /**
      * Returns the list of searched product WebElements.
      *
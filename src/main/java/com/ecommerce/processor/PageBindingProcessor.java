@@ -0,0 +1,280 @@
+package com.ecommerce.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code <Page>Binding} class for every page object with {@code @FindBy} fields.
+ *
+ * PageFactory reads the annotations and builds a dynamic proxy for every field each time a page is
+ * constructed. The generated class holds the page's locators as {@code By} constants, built once,
+ * and a {@code bind(page, context)} method that assigns each field a {@code LazyElement} directly,
+ * so constructing a page costs neither reflection nor proxies. Fields must therefore not be
+ * private; only fields declared on the page class itself are bound.
+ *
+ * The processor runs in its own compiler execution before the main sources (see pom.xml) and
+ * reads the annotations as mirrors, so it needs nothing but the JDK.
+ */
+public class PageBindingProcessor extends AbstractProcessor {
+
+    private static final String FIND_BY = "org.openqa.selenium.support.FindBy";
+    private static final String FIND_BYS = "org.openqa.selenium.support.FindBys";
+    private static final String FIND_ALL = "org.openqa.selenium.support.FindAll";
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final String WEB_ELEMENT_LIST = "java.util.List<org.openqa.selenium.WebElement>";
+
+    /** {@code @FindBy} attributes and the {@code By} factory each one maps to. */
+    private static final Map<String, String> STRATEGIES = new LinkedHashMap<>();
+
+    static {
+        STRATEGIES.put("id", "By.id");
+        STRATEGIES.put("name", "By.name");
+        STRATEGIES.put("className", "By.className");
+        STRATEGIES.put("css", "By.cssSelector");
+        STRATEGIES.put("tagName", "By.tagName");
+        STRATEGIES.put("linkText", "By.linkText");
+        STRATEGIES.put("partialLinkText", "By.partialLinkText");
+        STRATEGIES.put("xpath", "By.xpath");
+    }
+
+    /** {@code How} constants and the {@code By} factory each one maps to. */
+    private static final Map<String, String> HOW = Map.of(
+            "CLASS_NAME", "By.className",
+            "CSS", "By.cssSelector",
+            "ID", "By.id",
+            "ID_OR_NAME", "new org.openqa.selenium.support.pagefactory.ByIdOrName",
+            "LINK_TEXT", "By.linkText",
+            "NAME", "By.name",
+            "PARTIAL_LINK_TEXT", "By.partialLinkText",
+            "TAG_NAME", "By.tagName",
+            "XPATH", "By.xpath");
+
+    /**
+     * One bound field: its name, whether it is a list, and the expression building its locator.
+     */
+    private record BoundField(String name, boolean list, String locator) {
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(FIND_BY, FIND_BYS, FIND_ALL);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> pages = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            String annotationName = annotation.getQualifiedName().toString();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (!FIND_BY.equals(annotationName)) {
+                    error(element, "@" + annotation.getSimpleName() + " is not supported by generated page binding; use @FindBy");
+                } else if (element.getKind() == ElementKind.FIELD) {
+                    pages.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement page : pages) {
+            List<BoundField> fields = boundFields(page);
+            if (fields != null) {
+                write(page, fields);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the page's {@code @FindBy} fields in declaration order, or null after reporting
+     * an error for any that cannot be bound.
+     */
+    private List<BoundField> boundFields(TypeElement page) {
+        boolean valid = true;
+        if (page.getNestingKind() != NestingKind.TOP_LEVEL && !page.getModifiers().contains(Modifier.STATIC)) {
+            error(page, "Page classes with @FindBy fields must be top-level or static");
+            valid = false;
+        }
+        List<BoundField> fields = new ArrayList<>();
+        for (Element member : page.getEnclosedElements()) {
+            AnnotationMirror findBy = member.getKind() == ElementKind.FIELD ? mirror(member, FIND_BY) : null;
+            if (findBy == null) {
+                continue;
+            }
+            VariableElement field = (VariableElement) member;
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                error(field, "@FindBy fields must be non-private instance fields so the generated binding can set them");
+                valid = false;
+                continue;
+            }
+            String type = field.asType().toString();
+            if (!WEB_ELEMENT.equals(type) && !WEB_ELEMENT_LIST.equals(type)) {
+                error(field, "@FindBy fields must be WebElement or List<WebElement>");
+                valid = false;
+                continue;
+            }
+            String locator = locator(field, findBy);
+            if (locator == null) {
+                valid = false;
+                continue;
+            }
+            fields.add(new BoundField(field.getSimpleName().toString(), WEB_ELEMENT_LIST.equals(type), locator));
+        }
+        return valid ? fields : null;
+    }
+
+    /**
+     * Returns the expression building the field's {@code By}, or null after reporting an error
+     * when the annotation does not name exactly one locator.
+     */
+    private String locator(VariableElement field, AnnotationMirror findBy) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : findBy.getElementValues().entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        List<String> locators = new ArrayList<>();
+        for (Map.Entry<String, String> strategy : STRATEGIES.entrySet()) {
+            Object value = values.get(strategy.getKey());
+            if (value != null && !value.toString().isEmpty()) {
+                locators.add(strategy.getValue() + "(" + literal(value.toString()) + ")");
+            }
+        }
+        Object how = values.get("how");
+        if (how != null && !"UNSET".equals(how.toString())) {
+            Object using = values.get("using");
+            if (using == null || using.toString().isEmpty()) {
+                error(field, "@FindBy(how = " + how + ") needs a 'using' value");
+                return null;
+            }
+            locators.add(HOW.get(how.toString()) + "(" + literal(using.toString()) + ")");
+        }
+        if (locators.size() != 1) {
+            error(field, "@FindBy must name exactly one locator");
+            return null;
+        }
+        return locators.get(0);
+    }
+
+    private void write(TypeElement page, List<BoundField> fields) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        String pageName = page.getQualifiedName().toString();
+        String localName = packageName.isEmpty() ? pageName : pageName.substring(packageName.length() + 1);
+        String bindingName = localName.replace(".", "") + "Binding";
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.ecommerce.base.ElementCache;\n")
+                .append("import com.ecommerce.base.LazyElement;\n")
+                .append("import org.openqa.selenium.By;\n")
+                .append("import org.openqa.selenium.SearchContext;\n\n")
+                .append("import javax.annotation.processing.Generated;\n\n")
+                .append("/**\n")
+                .append(" * Locators and element binding of {@link ").append(localName)
+                .append("}, generated from its {@code @FindBy} fields.\n")
+                .append(" */\n")
+                .append("@Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(bindingName).append(" {\n\n");
+        for (BoundField field : fields) {
+            source.append("    public static final By ").append(constantName(field.name()))
+                    .append(" = ").append(field.locator()).append(";\n");
+        }
+        source.append("\n    private ").append(bindingName).append("() {\n    }\n\n")
+                .append("    /**\n")
+                .append("     * Sets the page's {@code @FindBy} fields to elements looked up through the context on first use.\n")
+                .append("     */\n")
+                .append("    public static void bind(").append(localName).append(" page, SearchContext context) {\n")
+                .append("        if (!ElementCache.isGeneratedBinding()) {\n")
+                .append("            ElementCache.initElements(context, page);\n")
+                .append("            return;\n")
+                .append("        }\n");
+        for (BoundField field : fields) {
+            source.append("        page.").append(field.name()).append(" = LazyElement.")
+                    .append(field.list() ? "listOf" : "of").append("(context, ").append(constantName(field.name()))
+                    .append(", \"").append(localName).append('.').append(field.name()).append("\");\n");
+        }
+        source.append("    }\n}\n");
+
+        String qualifiedName = packageName.isEmpty() ? bindingName : packageName + "." + bindingName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, page).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(page, "Could not write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private static AnnotationMirror mirror(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (annotation.equals(mirror.getAnnotationType().toString())) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Turns a field name into a constant name: {@code viewCartBtn} becomes {@code VIEW_CART_BTN}.
+     */
+    static String constantName(String fieldName) {
+        StringBuilder constant = new StringBuilder();
+        for (int i = 0; i < fieldName.length(); i++) {
+            char c = fieldName.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(fieldName.charAt(i - 1))) {
+                constant.append('_');
+            }
+            constant.append(Character.toUpperCase(c));
+        }
+        return constant.toString();
+    }
+
+    /**
+     * Returns the value as a Java string literal.
+     */
+    static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < ' ') {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
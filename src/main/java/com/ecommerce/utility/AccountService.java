@@ -0,0 +1,199 @@
+package com.ecommerce.utility;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Creates and deletes storefront accounts through the site's API instead of the registration UI.
+ *
+ * Takes the same user data map as {@code RegisterPage.fillAccountDetails} (the columns of
+ * UserRegistrationData.xlsx). The API answers HTTP 200 for everything and reports the outcome
+ * in the body's {@code responseCode}, so that is what is checked.
+ */
+public class AccountService {
+
+    private static final int CREATED = 201;
+    private static final int DELETED = 200;
+
+    private final HttpClient client;
+    private final String apiUrl;
+
+    /**
+     * Uses {@code api.url} from Config.properties.
+     */
+    public AccountService() {
+        this(ConfigReader.get("api.url"));
+    }
+
+    /**
+     * @param apiUrl base URL of the API, e.g. {@code https://automationexercise.com/api/}
+     */
+    public AccountService(String apiUrl) {
+        this.apiUrl = apiUrl.endsWith("/") ? apiUrl : apiUrl + "/";
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    }
+
+    /**
+     * Creates an account.
+     *
+     * @param userData registration data keyed by the spreadsheet column names
+     */
+    public void createAccount(Map<String, String> userData) {
+        join(createAccountAsync(userData));
+    }
+
+    /**
+     * Deletes an account.
+     */
+    public void deleteAccount(String email, String password) {
+        join(deleteAccountAsync(email, password));
+    }
+
+    /**
+     * Creates an account without blocking.
+     */
+    public CompletableFuture<Void> createAccountAsync(Map<String, String> userData) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("name", userData.get("Name"));
+        form.put("email", userData.get("Email"));
+        form.put("password", userData.get("Password"));
+        form.put("title", userData.get("Title"));
+        form.put("birth_date", plain(userData.get("Day")));
+        form.put("birth_month", plain(userData.get("Month")));
+        form.put("birth_year", plain(userData.get("Year")));
+        form.put("firstname", userData.get("FirstName"));
+        form.put("lastname", userData.get("LastName"));
+        form.put("company", userData.get("Company"));
+        form.put("address1", userData.get("Address"));
+        form.put("address2", userData.get("Address2"));
+        form.put("country", userData.get("Country"));
+        form.put("zipcode", plain(userData.get("Zip")));
+        form.put("state", userData.get("State"));
+        form.put("city", userData.get("City"));
+        form.put("mobile_number", plain(userData.get("Mobile")));
+        return send("POST", "createAccount", form, CREATED, "create account " + userData.get("Email"));
+    }
+
+    /**
+     * Deletes an account without blocking.
+     */
+    public CompletableFuture<Void> deleteAccountAsync(String email, String password) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("email", email);
+        form.put("password", password);
+        return send("DELETE", "deleteAccount", form, DELETED, "delete account " + email);
+    }
+
+    /**
+     * Creates all accounts concurrently and waits for them.
+     *
+     * @throws RuntimeException listing every account that could not be created
+     */
+    public void createAccounts(List<Map<String, String>> users) {
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (Map<String, String> user : users) {
+            requests.add(createAccountAsync(user));
+        }
+        joinAll(requests, "create");
+    }
+
+    /**
+     * Deletes all accounts concurrently and waits for them.
+     *
+     * @throws RuntimeException listing every account that could not be deleted
+     */
+    public void deleteAccounts(List<Map<String, String>> users) {
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (Map<String, String> user : users) {
+            requests.add(deleteAccountAsync(user.get("Email"), user.get("Password")));
+        }
+        joinAll(requests, "delete");
+    }
+
+    private CompletableFuture<Void> send(String method, String endpoint, Map<String, String> form,
+                                         int expectedCode, String description) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + endpoint))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .method(method, HttpRequest.BodyPublishers.ofString(encode(form)))
+                .build();
+        long started = System.currentTimeMillis();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenAccept(response -> {
+            JSONObject body = parse(response.body(), description);
+            Object code = body.get("responseCode");
+            if (code == null || ((Number) code).intValue() != expectedCode) {
+                throw new RuntimeException("Failed to " + description + ": " + body.get("message") + " (" + code + ")");
+            }
+            Log.info("API: " + description + " in " + (System.currentTimeMillis() - started) + " ms.");
+        });
+    }
+
+    private static JSONObject parse(String body, String description) {
+        try {
+            return (JSONObject) new JSONParser().parse(body);
+        } catch (ParseException | ClassCastException e) {
+            throw new RuntimeException("Failed to " + description + ": unexpected response " + body, e);
+        }
+    }
+
+    private static String encode(Map<String, String> form) {
+        StringJoiner joiner = new StringJoiner("&");
+        form.forEach((name, value) -> joiner.add(URLEncoder.encode(name, StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(value == null ? "" : value, StandardCharsets.UTF_8)));
+        return joiner.toString();
+    }
+
+    /**
+     * Spreadsheet numbers come back as "12.0" or "9.87654321E9"; the API wants the plain digits.
+     */
+    private static String plain(String value) {
+        if (value == null) {
+            return "";
+        }
+        try {
+            return new BigDecimal(value.trim()).stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException e) {
+            return value.trim();
+        }
+    }
+
+    private static void join(CompletableFuture<Void> request) {
+        try {
+            request.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private static void joinAll(List<CompletableFuture<Void>> requests, String operation) {
+        List<String> failures = new ArrayList<>();
+        for (CompletableFuture<Void> request : requests) {
+            try {
+                join(request);
+            } catch (RuntimeException e) {
+                failures.add(e.getMessage());
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new RuntimeException("Failed to " + operation + " " + failures.size() + " of "
+                    + requests.size() + " account(s): " + failures);
+        }
+    }
+}
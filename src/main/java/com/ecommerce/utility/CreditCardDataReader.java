@@ -2,23 +2,17 @@ package com.ecommerce.utility;
 
 import org.json.simple.JSONObject;
 import org.json.simple.JSONArray;
-import org.json.simple.parser.JSONParser;
-
-import java.io.FileReader;
 
 public class CreditCardDataReader {
 
-    private JSONObject jsonObject;
+    private final JSONObject jsonObject;
 
+    /**
+     * Reads the file through {@link TestDataRepository}, so it is parsed once per change
+     * however many readers are created. The returned objects are shared and read-only.
+     */
     public CreditCardDataReader(String filePath) {
-        try {
-            JSONParser parser = new JSONParser();
-            FileReader reader = new FileReader(filePath);
-            Object obj = parser.parse(reader);
-            jsonObject = (JSONObject) obj;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to read JSON file: " + filePath, e);
-        }
+        jsonObject = TestDataRepository.json(filePath);
     }
 
     public JSONObject getValidCreditCard() {
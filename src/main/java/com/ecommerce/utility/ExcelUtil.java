@@ -1,16 +1,134 @@
 package com.ecommerce.utility;
 
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.File;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 public class ExcelUtil {
+
+    private static final String TEST_DATA = "TestData/UserRegistrationData.xlsx";
+
+    /**
+     * Returns the rows of a test data sheet as read-only map views over {@link #getTable(String)}.
+     */
     public static List<Map<String, String>> getTestData(String sheetName) {
+        return getTable(sheetName).rows();
+    }
+
+    /**
+     * Returns a test data sheet as a columnar table. The sheet is read once and shared through
+     * {@link TestDataRepository} until the file changes. A sheet that cannot be read gives an
+     * empty table, which is not cached, so the next call tries again.
+     */
+    public static TestDataTable getTable(String sheetName) {
+        try {
+            return TestDataRepository.get(TEST_DATA + "#" + sheetName, testDataFile(), () -> {
+                TestDataTable.Builder[] table = new TestDataTable.Builder[1];
+                boolean read = readSheet(sheetName, pkg -> XlsxStreamReader.readCells(pkg, sheetName, cells -> {
+                    if (table[0] == null) {
+                        table[0] = TestDataTable.builder(cells);
+                    } else {
+                        table[0].addRow(cells);
+                    }
+                }));
+                if (!read) {
+                    throw new IllegalStateException("Failed to read sheet " + sheetName);
+                }
+                return table[0] == null ? TestDataTable.builder().build() : table[0].build();
+            });
+        } catch (IllegalStateException e) {
+            return TestDataTable.builder().build();
+        }
+    }
+
+    /**
+     * Returns a lazy data provider over a test data sheet. Each row is passed to a test as
+     * its only parameter, as soon as it has been read.
+     *
+     * @param rowMapper applied to each row as it is handed to a test, e.g. {@code UniqueIdentity::uniquify}
+     */
+    public static Iterator<Object[]> iterateTestData(String sheetName, UnaryOperator<Map<String, String>> rowMapper) {
+        return new RowIterator(sheetName, rowMapper);
+    }
+
+    /**
+     * Streams the rows of a test data sheet to the handler one at a time, without loading the
+     * workbook into memory. Use this instead of {@link #getTestData(String)} for large sheets.
+     */
+    public static void forEachRow(String sheetName, Consumer<Map<String, String>> rowHandler) {
+        readSheet(sheetName, pkg -> XlsxStreamReader.read(pkg, sheetName, rowHandler));
+    }
+
+    /**
+     * Reads one sheet of the test data file.
+     */
+    private interface SheetReader {
+        /**
+         * @return number of physical rows read
+         */
+        int read(OPCPackage pkg) throws Exception;
+    }
+
+    /**
+     * @return true if the sheet was read; a failure is logged
+     */
+    private static boolean readSheet(String sheetName, SheetReader reader) {
+        URL resource = Thread.currentThread().getContextClassLoader().getResource(TEST_DATA);
+        try {
+            int rowCount;
+            if (resource != null && resource.getProtocol().equals("file")) {
+                // Opening the file reads zip entries on demand; a stream would be buffered whole
+                try (OPCPackage pkg = OPCPackage.open(new File(resource.toURI()), PackageAccess.READ)) {
+                    rowCount = reader.read(pkg);
+                }
+            } else {
+                try (InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream(TEST_DATA);
+                     OPCPackage pkg = OPCPackage.open(is)) {
+                    rowCount = reader.read(pkg);
+                }
+            }
+            Log.info("Loaded sheet: " + sheetName + ", Rows: " + rowCount);
+            return true;
+        } catch (CancellationException e) {
+            Log.info("Stopped reading sheet " + sheetName + ": " + e.getMessage());
+            return false;
+        } catch (Exception e) {
+            Log.error("Failed to read Excel test data", e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the test data file, or null when it is not a plain file (e.g. inside a jar) and cannot change.
+     */
+    private static Path testDataFile() {
+        URL resource = Thread.currentThread().getContextClassLoader().getResource(TEST_DATA);
+        try {
+            return resource != null && resource.getProtocol().equals("file") ? Paths.get(resource.toURI()) : null;
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a sheet through the full XSSFWorkbook object model. Kept as the reference
+     * implementation the streaming reader is checked and benchmarked against.
+     */
+    public static List<Map<String, String>> getTestDataWithWorkbook(InputStream is, String sheetName) {
         List<Map<String, String>> testData = new ArrayList<>();
-        try (InputStream is = Thread.currentThread().getContextClassLoader()
-                .getResourceAsStream("TestData/UserRegistrationData.xlsx");
-             Workbook workbook = new XSSFWorkbook(is)) {
+        try (Workbook workbook = new XSSFWorkbook(is)) {
 
             Sheet sheet = workbook.getSheet(sheetName);
             Row headerRow = sheet.getRow(0);
@@ -50,18 +50,40 @@ public class Log {
         logger.info(message);
     }
 
+    /**
+     * Logs a message with {@code {}} placeholders, formatted only when info is enabled.
+     */
+    public static void info(String message, Object... params) {
+        logger.info(message, params);
+    }
+
     public static void warn(String message) {
         logger.warn(message);
     }
 
+    public static void warn(String message, Object... params) {
+        logger.warn(message, params);
+    }
+
     public static void debug(String message) {
         logger.debug(message);
     }
 
+    public static void debug(String message, Object... params) {
+        logger.debug(message, params);
+    }
+
     public static void error(String message) {
         logger.error(message);
     }
 
+    /**
+     * Logs a message with {@code {}} placeholders; a trailing Throwable is logged with its stack trace.
+     */
+    public static void error(String message, Object... params) {
+        logger.error(message, params);
+    }
+
     public static void error(String message, Throwable t) {
         logger.error(message, t);
     }
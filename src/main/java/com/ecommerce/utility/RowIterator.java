@@ -0,0 +1,132 @@
+package com.ecommerce.utility;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lazy TestNG data provider over a streamed test data sheet.
+ *
+ * A background thread parses the sheet and hands rows over through a small bounded queue, so the
+ * first test starts as soon as the first row is parsed and at most {@link #BUFFERED_ROWS} rows are
+ * read ahead. The row mapper runs in {@code next}, on the thread that takes the row, so its side
+ * effects happen when a test is about to run and not when the row is parsed. {@code hasNext}/
+ * {@code next} are safe to call from several threads: each row is still handed out exactly once.
+ *
+ * The reader stops and closes the workbook when the iterator is {@link #close() closed} or
+ * garbage collected, so an iterator abandoned before its last row does not keep it open.
+ */
+public class RowIterator implements Iterator<Object[]>, AutoCloseable {
+
+    /** Rows parsed ahead of the tests that consume them. */
+    public static final int BUFFERED_ROWS = 16;
+
+    /** How long the reader waits for room in the queue before checking whether to stop. */
+    private static final long HAND_OVER_WAIT_MS = 500;
+
+    private static final Map<String, String> END = Collections.emptyMap();
+
+    private final BlockingQueue<Map<String, String>> queue = new ArrayBlockingQueue<>(BUFFERED_ROWS);
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final UnaryOperator<Map<String, String>> rowMapper;
+    private Map<String, String> nextRow;
+    private boolean finished;
+
+    /**
+     * Starts streaming the sheet.
+     *
+     * @param sheetName sheet of the test data workbook
+     * @param rowMapper applied to each row in {@code next}, before a test sees it
+     */
+    public RowIterator(String sheetName, UnaryOperator<Map<String, String>> rowMapper) {
+        this.rowMapper = rowMapper;
+        startReader(sheetName, queue, closed, new WeakReference<>(this));
+    }
+
+    /**
+     * The reader holds the iterator weakly, so it can notice when nobody holds it any more.
+     */
+    private static void startReader(String sheetName, BlockingQueue<Map<String, String>> queue,
+                                    AtomicBoolean closed, WeakReference<RowIterator> iterator) {
+        Thread reader = new Thread(() -> {
+            try {
+                ExcelUtil.forEachRow(sheetName, row -> handOver(queue, row, closed, iterator));
+            } finally {
+                try {
+                    handOver(queue, END, closed, iterator);
+                } catch (CancellationException e) {
+                    // Nobody is left to read the end marker
+                }
+            }
+        }, "test-data-" + sheetName);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private static void handOver(BlockingQueue<Map<String, String>> queue, Map<String, String> row,
+                                 AtomicBoolean closed, WeakReference<RowIterator> iterator) {
+        try {
+            do {
+                if (closed.get() || iterator.get() == null) {
+                    throw new CancellationException("the data provider was closed before its last row");
+                }
+            } while (!queue.offer(row, HAND_OVER_WAIT_MS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading test data", e);
+        }
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        if (nextRow == null) {
+            try {
+                nextRow = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for test data", e);
+            }
+        }
+        if (nextRow == END) {
+            finished = true;
+            nextRow = null;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] next() {
+        Map<String, String> row;
+        synchronized (this) {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            row = nextRow;
+            nextRow = null;
+        }
+        return new Object[] {rowMapper.apply(row)};
+    }
+
+    /**
+     * Stops the reader and drops the rows read ahead; {@code hasNext} returns false from now on.
+     */
+    @Override
+    public synchronized void close() {
+        closed.set(true);
+        finished = true;
+        nextRow = null;
+        queue.clear();
+    }
+}
@@ -0,0 +1,391 @@
+package com.ecommerce.utility;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Process-wide cache of parsed test data files.
+ *
+ * Each file is parsed once and the result is shared by every thread. Values are read-only, so
+ * sharing them needs no locking; a test that wants to change data must copy it first. A file is
+ * parsed again only when its modification time or size changes, and concurrent threads asking
+ * for a missing or stale entry wait for a single parse.
+ *
+ * Load counts and load times are kept per source and logged at the end of the suite.
+ */
+public final class TestDataRepository {
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private static final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    private TestDataRepository() {
+    }
+
+    /**
+     * One parsed value and the file state it was parsed from.
+     */
+    private static final class Entry {
+        private final Object value;
+        private final FileTime modified;
+        private final long size;
+
+        Entry(Object value, FileTime modified, long size) {
+            this.value = value;
+            this.modified = modified;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Load counters of one source.
+     */
+    private static final class Stats {
+        private final AtomicInteger loads = new AtomicInteger();
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicLong loadNanos = new AtomicLong();
+    }
+
+    /**
+     * Returns the parsed content of a JSON file. The objects and arrays in it are read-only.
+     *
+     * @throws RuntimeException when the file cannot be read or parsed
+     */
+    public static JSONObject json(String filePath) {
+        Path file = Paths.get(filePath).toAbsolutePath().normalize();
+        return get(file.toString(), file, () -> {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                return (JSONObject) readOnly(new JSONParser().parse(reader));
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to read JSON file: " + filePath, e);
+            }
+        });
+    }
+
+    /**
+     * Returns the cached value for the key, parsing it when it is missing or its source file changed.
+     *
+     * @param key    cache key, unique per source and per kind of value parsed from it
+     * @param source file the value is parsed from; null when it cannot change (e.g. inside a jar)
+     * @param parser parses the value; it must not be changed after it is returned. If it throws,
+     *               nothing is cached and the next call parses again
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String key, Path source, Supplier<T> parser) {
+        Stats counters = stats.computeIfAbsent(key, k -> new Stats());
+        Entry entry = entries.get(key);
+        if (entry != null && isFresh(entry, source)) {
+            counters.hits.incrementAndGet();
+            return (T) entry.value;
+        }
+        // compute() runs one parse per key; other threads wait for it instead of parsing again
+        entry = entries.compute(key, (k, old) -> {
+            if (old != null && isFresh(old, source)) {
+                counters.hits.incrementAndGet();
+                return old;
+            }
+            FileTime modified = modified(source);
+            long size = size(source);
+            long started = System.nanoTime();
+            T value = parser.get();
+            counters.loadNanos.addAndGet(System.nanoTime() - started);
+            counters.loads.incrementAndGet();
+            return new Entry(value, modified, size);
+        });
+        return (T) entry.value;
+    }
+
+    /**
+     * Returns how many times the key was parsed.
+     */
+    public static int loadCount(String key) {
+        Stats counters = stats.get(key);
+        return counters == null ? 0 : counters.loads.get();
+    }
+
+    /**
+     * Returns how many requests for the key were served from the cache.
+     */
+    public static int hitCount(String key) {
+        Stats counters = stats.get(key);
+        return counters == null ? 0 : counters.hits.get();
+    }
+
+    /**
+     * Returns the total time spent parsing the key, in milliseconds.
+     */
+    public static long loadMillis(String key) {
+        Stats counters = stats.get(key);
+        return counters == null ? 0 : TimeUnit.NANOSECONDS.toMillis(counters.loadNanos.get());
+    }
+
+    /**
+     * Logs the load count, cache hits and load time of every source.
+     */
+    public static void logSummary() {
+        stats.forEach((key, counters) -> Log.info("Test data " + key + ": " + counters.loads.get() + " load(s) in "
+                + TimeUnit.NANOSECONDS.toMillis(counters.loadNanos.get()) + " ms, " + counters.hits.get() + " cache hit(s)."));
+    }
+
+    /**
+     * Drops every cached value and counter.
+     */
+    public static void clear() {
+        entries.clear();
+        stats.clear();
+    }
+
+    private static boolean isFresh(Entry entry, Path source) {
+        return source == null || (modified(source).equals(entry.modified) && size(source) == entry.size);
+    }
+
+    private static FileTime modified(Path source) {
+        try {
+            return source == null ? FileTime.fromMillis(0) : Files.getLastModifiedTime(source);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static long size(Path source) {
+        try {
+            return source == null ? 0 : Files.size(source);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static Object readOnly(Object value) {
+        if (value instanceof JSONObject) {
+            ReadOnlyJSONObject copy = new ReadOnlyJSONObject();
+            ((Map<?, ?>) value).forEach((key, item) -> copy.store(key, readOnly(item)));
+            return copy;
+        }
+        if (value instanceof JSONArray) {
+            ReadOnlyJSONArray copy = new ReadOnlyJSONArray();
+            for (Object item : (JSONArray) value) {
+                copy.store(readOnly(item));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * JSONObject that rejects changes once it has been built.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final class ReadOnlyJSONObject extends JSONObject {
+        private static final long serialVersionUID = 1L;
+
+        void store(Object key, Object value) {
+            super.put(key, value);
+        }
+
+        @Override
+        public Object put(Object key, Object value) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public void putAll(Map map) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Object putIfAbsent(Object key, Object value) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Object remove(Object key) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Object replace(Object key, Object value) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public boolean replace(Object key, Object oldValue, Object newValue) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public void replaceAll(BiFunction function) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Object computeIfAbsent(Object key, Function function) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Object computeIfPresent(Object key, BiFunction function) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Object compute(Object key, BiFunction function) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Object merge(Object key, Object value, BiFunction function) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public void clear() {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Set keySet() {
+            return Collections.unmodifiableSet(super.keySet());
+        }
+
+        @Override
+        public Collection values() {
+            return Collections.unmodifiableCollection(super.values());
+        }
+
+        @Override
+        public Set entrySet() {
+            return Collections.unmodifiableSet(super.entrySet());
+        }
+    }
+
+    /**
+     * JSONArray that rejects changes once it has been built.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final class ReadOnlyJSONArray extends JSONArray {
+        private static final long serialVersionUID = 1L;
+
+        void store(Object value) {
+            super.add(value);
+        }
+
+        @Override
+        public boolean add(Object value) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public void add(int index, Object value) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public boolean addAll(Collection values) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public boolean addAll(int index, Collection values) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Object set(int index, Object value) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Object remove(int index) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public boolean remove(Object value) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public boolean removeAll(Collection values) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public boolean retainAll(Collection values) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public boolean removeIf(Predicate filter) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator operator) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public void sort(Comparator comparator) {
+            throw readOnlyError();
+        }
+
+        @Override
+        public void clear() {
+            throw readOnlyError();
+        }
+
+        @Override
+        public Iterator iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator listIterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator listIterator(int index) {
+            return Collections.unmodifiableList(super.subList(0, size())).listIterator(index);
+        }
+
+        @Override
+        public List subList(int fromIndex, int toIndex) {
+            return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+        }
+    }
+
+    private static UnsupportedOperationException readOnlyError() {
+        return new UnsupportedOperationException("Shared test data is read-only; copy it before changing it.");
+    }
+}
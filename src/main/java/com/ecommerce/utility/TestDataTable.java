@@ -0,0 +1,330 @@
+package com.ecommerce.utility;
+
+import org.apache.poi.util.LocaleUtil;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Read-only table of test data stored by column.
+ *
+ * Header names are interned and stored once for the whole table, not once per row. Each column
+ * is a dense array: numeric columns keep primitive doubles and text columns keep one shared
+ * String per distinct value, so repeated values such as titles, countries or states cost a
+ * reference each. {@link #row(int)} and {@link #rows()} give {@code Map<String, String>} views
+ * over the arrays, with the same text {@code Cell.toString()} gives, for code that takes a row map.
+ */
+public final class TestDataTable {
+
+    private static final DateTimeFormatter CELL_DATE = DateTimeFormatter.ofPattern("dd-MMM-yyyy", LocaleUtil.getUserLocale());
+
+    private final String[] headers;
+    private final Map<String, Integer> columnIndex;
+    private final Column[] columns;
+    private final int rowCount;
+
+    private TestDataTable(String[] headers, Column[] columns, int rowCount) {
+        this.headers = headers;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        Map<String, Integer> index = new HashMap<>();
+        for (int j = 0; j < headers.length; j++) {
+            // Like a row map, a repeated header name refers to its last column
+            index.put(headers[j], j);
+        }
+        this.columnIndex = index;
+    }
+
+    /**
+     * Starts a table with the given column names.
+     */
+    public static Builder builder(String... headers) {
+        return new Builder(headers);
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public List<String> headers() {
+        return Collections.unmodifiableList(Arrays.asList(headers));
+    }
+
+    /**
+     * Returns the cell text, "" for a blank cell.
+     *
+     * @throws IllegalArgumentException when the table has no such column
+     */
+    public String getString(int row, String column) {
+        return columns[indexOf(column)].text(checkRow(row));
+    }
+
+    /**
+     * Returns the cell as a number, NaN for a blank cell.
+     *
+     * @throws NumberFormatException when the cell holds text that is not a number
+     */
+    public double getNumber(int row, String column) {
+        return columns[indexOf(column)].number(checkRow(row));
+    }
+
+    /**
+     * Returns the cell as a date, null for a blank cell. Date cells read as dd-MMM-yyyy;
+     * text cells in ISO format (yyyy-MM-dd) are accepted too.
+     *
+     * @throws DateTimeParseException when the cell does not hold a date
+     */
+    public LocalDate getDate(int row, String column) {
+        String text = getString(row, column);
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text, CELL_DATE);
+        } catch (DateTimeParseException e) {
+            return LocalDate.parse(text);
+        }
+    }
+
+    /**
+     * Returns a read-only map view of one row, keyed by column name.
+     */
+    public Map<String, String> row(int row) {
+        return new RowView(checkRow(row));
+    }
+
+    /**
+     * Returns read-only map views of every row. Views are created on access and hold no copy of the data.
+     */
+    public List<Map<String, String>> rows() {
+        return new RowList();
+    }
+
+    private int indexOf(String column) {
+        Integer index = columnIndex.get(column);
+        if (index == null) {
+            throw new IllegalArgumentException("No column '" + column + "' in test data; columns are " + headers());
+        }
+        return index;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+        }
+        return row;
+    }
+
+    /**
+     * One column's values.
+     */
+    private interface Column {
+        String text(int row);
+
+        double number(int row);
+    }
+
+    /**
+     * Text column; equal values share one String.
+     */
+    private static final class TextColumn implements Column {
+        private final String[] values;
+
+        TextColumn(String[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public String text(int row) {
+            return values[row];
+        }
+
+        @Override
+        public double number(int row) {
+            return values[row].isEmpty() ? Double.NaN : Double.parseDouble(values[row]);
+        }
+    }
+
+    /**
+     * Column whose every non-blank cell is a number; blanks are NaN.
+     */
+    private static final class NumberColumn implements Column {
+        private final double[] values;
+
+        NumberColumn(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public String text(int row) {
+            // Cell.toString() of a numeric cell is Double.toString of its value
+            return Double.isNaN(values[row]) ? "" : Double.toString(values[row]);
+        }
+
+        @Override
+        public double number(int row) {
+            return values[row];
+        }
+    }
+
+    /**
+     * Map view of one row.
+     */
+    private final class RowView extends AbstractMap<String, String> {
+        private final int row;
+
+        RowView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String get(Object key) {
+            Integer index = columnIndex.get(key);
+            return index == null ? null : columns[index].text(row);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return columnIndex.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return columnIndex.size();
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    Iterator<Entry<String, Integer>> names = columnIndex.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return names.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            Entry<String, Integer> name = names.next();
+                            return new SimpleImmutableEntry<>(name.getKey(), columns[name.getValue()].text(row));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return columnIndex.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * List view of every row.
+     */
+    private final class RowList extends AbstractList<Map<String, String>> implements RandomAccess {
+        @Override
+        public Map<String, String> get(int index) {
+            return row(index);
+        }
+
+        @Override
+        public int size() {
+            return rowCount;
+        }
+    }
+
+    /**
+     * Collects rows into growable per-column arrays, then picks each column's storage in {@link #build()}.
+     */
+    public static final class Builder {
+        private final String[] headers;
+        private final List<Map<String, String>> distinct;
+        private String[][] values;
+        private int capacity = 16;
+        private int rowCount;
+
+        private Builder(String[] headers) {
+            this.headers = new String[headers.length];
+            this.values = new String[headers.length][capacity];
+            this.distinct = new ArrayList<>(headers.length);
+            for (int j = 0; j < headers.length; j++) {
+                this.headers[j] = headers[j].intern();
+                distinct.add(new HashMap<>());
+            }
+        }
+
+        /**
+         * Appends a row of cell texts in column order. Missing trailing cells are blank.
+         */
+        public Builder addRow(String... cells) {
+            if (rowCount == capacity) {
+                capacity *= 2;
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = Arrays.copyOf(values[j], capacity);
+                }
+            }
+            for (int j = 0; j < headers.length; j++) {
+                String cell = j < cells.length && cells[j] != null ? cells[j] : "";
+                values[j][rowCount] = distinct.get(j).computeIfAbsent(cell, value -> value);
+            }
+            rowCount++;
+            return this;
+        }
+
+        /**
+         * Returns the table. The builder must not be used afterwards.
+         */
+        public TestDataTable build() {
+            Column[] columns = new Column[headers.length];
+            for (int j = 0; j < headers.length; j++) {
+                String[] column = Arrays.copyOf(values[j], rowCount);
+                double[] numbers = asNumbers(column);
+                columns[j] = numbers != null ? new NumberColumn(numbers) : new TextColumn(column);
+            }
+            values = null;
+            distinct.clear();
+            return new TestDataTable(headers, columns, rowCount);
+        }
+
+        /**
+         * Returns the column as doubles when that loses nothing, i.e. every non-blank cell reads
+         * back as the same text; null otherwise.
+         */
+        private static double[] asNumbers(String[] column) {
+            double[] numbers = new double[column.length];
+            boolean any = false;
+            for (int i = 0; i < column.length; i++) {
+                if (column[i].isEmpty()) {
+                    numbers[i] = Double.NaN;
+                    continue;
+                }
+                try {
+                    numbers[i] = Double.parseDouble(column[i]);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                if (Double.isNaN(numbers[i]) || !Double.toString(numbers[i]).equals(column[i])) {
+                    return null;
+                }
+                any = true;
+            }
+            return any ? numbers : null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce.utility;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates identities that are unique across threads, surefire forks and machines, so
+ * data-driven registrations never collide with "email already exists".
+ *
+ * An id is a fixed-width node part (host, process id, JVM start time and a few random
+ * characters) followed by a per-JVM counter. The node part separates machines and forks,
+ * the counter separates calls within a JVM; nothing is shared or locked between them.
+ */
+public final class UniqueIdentity {
+
+    /** Columns rewritten by {@link #uniquify(List)} when none are given. */
+    public static final String[] IDENTITY_COLUMNS = {"Email"};
+
+    private static final String NODE = node();
+    private static final AtomicLong counter = new AtomicLong();
+
+    private UniqueIdentity() {
+    }
+
+    /**
+     * Returns a new unique id made of lower-case letters, digits and one dot.
+     */
+    public static String next() {
+        return NODE + "." + Long.toString(counter.incrementAndGet(), 36);
+    }
+
+    /**
+     * Makes an email address unique by adding an id to its local part,
+     * e.g. {@code jane.roe1@test.com} becomes {@code jane.roe1.<id>@test.com}.
+     */
+    public static String email(String email) {
+        int at = email.indexOf('@');
+        return at < 0 ? email + "." + next() : email.substring(0, at) + "." + next() + email.substring(at);
+    }
+
+    /**
+     * Returns copies of the rows with their identity columns made unique.
+     *
+     * @param rows    rows from {@link ExcelUtil#getTestData(String)}
+     * @param columns columns to rewrite; {@link #IDENTITY_COLUMNS} when empty
+     */
+    public static List<Map<String, String>> uniquify(List<Map<String, String>> rows, String... columns) {
+        List<Map<String, String>> unique = new ArrayList<>(rows.size());
+        for (Map<String, String> row : rows) {
+            unique.add(uniquify(row, columns));
+        }
+        return unique;
+    }
+
+    /**
+     * Returns a copy of the row with its identity columns made unique.
+     *
+     * @param row     row from {@link ExcelUtil}
+     * @param columns columns to rewrite; {@link #IDENTITY_COLUMNS} when empty
+     */
+    public static Map<String, String> uniquify(Map<String, String> row, String... columns) {
+        Map<String, String> copy = new HashMap<>(row);
+        for (String column : columns.length == 0 ? IDENTITY_COLUMNS : columns) {
+            String value = copy.get(column);
+            if (value != null) {
+                copy.put(column, column.equalsIgnoreCase("Email") ? email(value) : value + "." + next());
+            }
+        }
+        return copy;
+    }
+
+    private static String node() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = String.valueOf(System.getenv("HOSTNAME"));
+        }
+        long started = ProcessHandle.current().info().startInstant()
+                .map(instant -> instant.toEpochMilli()).orElse(System.currentTimeMillis());
+        // Fixed widths keep the parts from running into each other
+        return fixed(Integer.toUnsignedLong(host.hashCode()), 7)
+                + fixed(ProcessHandle.current().pid(), 5)
+                + fixed(started, 9)
+                + fixed(new SecureRandom().nextInt(36 * 36 * 36), 3);
+    }
+
+    private static String fixed(long value, int width) {
+        String digits = Long.toString(value, 36);
+        if (digits.length() > width) {
+            return digits.substring(digits.length() - width);
+        }
+        return "0".repeat(width - digits.length()) + digits;
+    }
+}
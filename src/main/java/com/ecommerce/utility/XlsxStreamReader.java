@@ -0,0 +1,245 @@
+package com.ecommerce.utility;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.LocaleUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.SimpleDateFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads one sheet of an .xlsx file row by row with a SAX parser, without building the workbook
+ * in memory. Only the shared strings table and the current row are held, so memory does not grow
+ * with the number of rows.
+ *
+ * Rows are produced with the same contract as the workbook-based reader: the first row holds the
+ * column names, each later row becomes a map of column name to the cell's {@code Cell.toString()}
+ * text ("12.0" for numbers, "TRUE"/"FALSE", dd-MMM-yyyy for dates, the formula for formula cells)
+ * and missing cells become "". Child cells of shared formulas give their cached value, and dates
+ * use the 1900 date system.
+ */
+public final class XlsxStreamReader {
+
+    private XlsxStreamReader() {
+    }
+
+    /**
+     * Streams the data rows of a sheet to the handler.
+     *
+     * @param pkg        opened workbook package
+     * @param sheetName  sheet to read
+     * @param rowHandler receives each data row as soon as it is parsed
+     * @return number of physical rows, header included
+     */
+    public static int read(OPCPackage pkg, String sheetName, Consumer<Map<String, String>> rowHandler)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        String[][] header = new String[1][];
+        return readCells(pkg, sheetName, cells -> {
+            if (header[0] == null) {
+                header[0] = cells;
+                return;
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int j = 0; j < header[0].length; j++) {
+                row.put(header[0][j], cells[j]);
+            }
+            rowHandler.accept(row);
+        });
+    }
+
+    /**
+     * Streams every row of a sheet, header included, as an array of cell texts indexed by column.
+     * Cheaper than {@link #read} when the caller keeps the values in its own structure.
+     *
+     * @param pkg         opened workbook package
+     * @param sheetName   sheet to read
+     * @param cellHandler receives each row as soon as it is parsed; the first row is the header
+     *                    and fixes the width of the later ones
+     * @return number of physical rows, header included
+     */
+    public static int readCells(OPCPackage pkg, String sheetName, Consumer<String[]> cellHandler)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader reader = new XSSFReader(pkg);
+        ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+        StylesTable styles = reader.getStylesTable();
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            try (InputStream sheet = sheets.next()) {
+                if (sheets.getSheetName().equals(sheetName)) {
+                    SheetHandler handler = new SheetHandler(strings, styles, cellHandler);
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(handler);
+                    parser.parse(new InputSource(sheet));
+                    return handler.rowCount;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Sheet not found: " + sheetName);
+    }
+
+    /**
+     * Turns sheet XML events into arrays of cell texts.
+     */
+    private static final class SheetHandler extends DefaultHandler {
+        private final ReadOnlySharedStringsTable strings;
+        private final StylesTable styles;
+        private final Consumer<String[]> cellHandler;
+        private final Map<Integer, String> rowValues = new HashMap<>();
+        private final StringBuilder text = new StringBuilder();
+
+        private int rowCount;
+        private int width;
+        private int column;
+        private String type;
+        private int style;
+        private String value;
+        private String formula;
+        private boolean inText;
+
+        SheetHandler(ReadOnlySharedStringsTable strings, StylesTable styles, Consumer<String[]> cellHandler) {
+            this.strings = strings;
+            this.styles = styles;
+            this.cellHandler = cellHandler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row":
+                    rowValues.clear();
+                    column = -1;
+                    break;
+                case "c":
+                    String ref = attributes.getValue("r");
+                    column = ref == null ? column + 1 : columnIndex(ref);
+                    type = attributes.getValue("t");
+                    String s = attributes.getValue("s");
+                    style = s == null ? 0 : Integer.parseInt(s);
+                    value = null;
+                    formula = null;
+                    text.setLength(0);
+                    break;
+                case "v":
+                case "f":
+                    inText = true;
+                    text.setLength(0);
+                    break;
+                case "t":
+                    // Inline strings may be split into several rich-text runs
+                    inText = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v":
+                    value = text.toString();
+                    inText = false;
+                    break;
+                case "f":
+                    formula = text.length() == 0 ? null : text.toString();
+                    inText = false;
+                    break;
+                case "t":
+                    inText = false;
+                    break;
+                case "is":
+                    value = text.toString();
+                    break;
+                case "c":
+                    rowValues.put(column, cellText());
+                    break;
+                case "row":
+                    endRow();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void endRow() {
+            rowCount++;
+            if (rowCount == 1) {
+                width = rowValues.size();
+            }
+            String[] cells = new String[width];
+            for (int j = 0; j < width; j++) {
+                cells[j] = rowValues.getOrDefault(j, "");
+            }
+            cellHandler.accept(cells);
+        }
+
+        /**
+         * Mirrors {@code XSSFCell.toString()}.
+         */
+        private String cellText() {
+            if (formula != null) {
+                return formula;
+            }
+            if (value == null) {
+                return "";
+            }
+            if (type == null || type.equals("n")) {
+                double number = Double.parseDouble(value);
+                if (isDateFormatted(number)) {
+                    SimpleDateFormat format = new SimpleDateFormat("dd-MMM-yyyy", LocaleUtil.getUserLocale());
+                    format.setTimeZone(LocaleUtil.getUserTimeZone());
+                    return format.format(DateUtil.getJavaDate(number, false));
+                }
+                return Double.toString(number);
+            }
+            switch (type) {
+                case "s":
+                    return strings.getItemAt(Integer.parseInt(value)).getString();
+                case "b":
+                    return value.equals("1") ? "TRUE" : "FALSE";
+                default:
+                    // inlineStr, str (formula result) and e (error text)
+                    return value;
+            }
+        }
+
+        private boolean isDateFormatted(double number) {
+            if (style == 0 || !DateUtil.isValidExcelDate(number)) {
+                return false;
+            }
+            XSSFCellStyle cellStyle = styles.getStyleAt(style);
+            return cellStyle != null && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString());
+        }
+
+        private static int columnIndex(String ref) {
+            int index = 0;
+            for (int i = 0; i < ref.length() && Character.isLetter(ref.charAt(i)); i++) {
+                index = index * 26 + (ref.charAt(i) - 'A' + 1);
+            }
+            return index - 1;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.ecommerce.testcases;
+
+import com.ecommerce.utility.AccountService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests AccountService against a local stub of the storefront API, without a browser.
+ */
+public class AccountServiceTest {
+
+    private static final Logger log = LogManager.getLogger(AccountServiceTest.class);
+
+    private HttpServer server;
+    private AccountService accountService;
+    private final List<Map<String, String>> received = new CopyOnWriteArrayList<>();
+    private volatile int deleteResponseCode = 200;
+    private volatile CountDownLatch concurrentCreates;
+
+    @BeforeClass(alwaysRun = true)
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/createAccount", exchange -> {
+            Map<String, String> form = record(exchange);
+            CountDownLatch latch = concurrentCreates;
+            if (latch != null) {
+                latch.countDown();
+                try {
+                    // Only returns once every request of the batch has arrived
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            boolean valid = form.containsKey("email") && !form.get("email").isEmpty();
+            respond(exchange, valid ? 201 : 400, valid ? "User created!" : "Bad request, email parameter is missing");
+        });
+        server.createContext("/api/deleteAccount", exchange -> {
+            record(exchange);
+            respond(exchange, deleteResponseCode, deleteResponseCode == 200 ? "Account deleted!" : "Account not found!");
+        });
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+        accountService = new AccountService("http://127.0.0.1:" + server.getAddress().getPort() + "/api");
+        log.info("Stub API started on port " + server.getAddress().getPort());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubServer() {
+        server.stop(0);
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void reset() {
+        received.clear();
+        deleteResponseCode = 200;
+        concurrentCreates = null;
+    }
+
+    /**
+     * Test Case: Create account sends the registration data as API form fields.
+     */
+    @Test(groups = {"Regression"})
+    public void createAccountSendsFormFields() {
+        accountService.createAccount(user("api.user1@test.com"));
+
+        Assert.assertEquals(received.size(), 1, "Expected one request.");
+        Map<String, String> form = received.get(0);
+        Assert.assertEquals(form.get("method"), "POST");
+        Assert.assertEquals(form.get("email"), "api.user1@test.com");
+        Assert.assertEquals(form.get("birth_date"), "12", "Spreadsheet number not converted.");
+        Assert.assertEquals(form.get("mobile_number"), "9876543210", "Spreadsheet number not converted.");
+        Assert.assertEquals(form.get("address1"), "456 Oak Road");
+    }
+
+    /**
+     * Test Case: Bulk creation sends all requests at once instead of one after another.
+     */
+    @Test(groups = {"Regression"})
+    public void createAccountsRunsConcurrently() {
+        List<Map<String, String>> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(user("api.bulk" + i + "@test.com"));
+        }
+        concurrentCreates = new CountDownLatch(users.size());
+
+        long started = System.currentTimeMillis();
+        accountService.createAccounts(users);
+
+        Assert.assertEquals(received.size(), users.size());
+        Assert.assertTrue(System.currentTimeMillis() - started < 5000, "Requests were not sent concurrently.");
+    }
+
+    /**
+     * Test Case: Delete account sends DELETE and fails on an API error code.
+     */
+    @Test(groups = {"Regression"})
+    public void deleteAccountReportsApiError() {
+        accountService.deleteAccount("api.user1@test.com", "pass@456");
+        Assert.assertEquals(received.get(0).get("method"), "DELETE");
+
+        deleteResponseCode = 404;
+        try {
+            accountService.deleteAccount("missing@test.com", "pass@456");
+            Assert.fail("Expected the API error to be reported.");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("Account not found!"), "Unexpected message: " + e.getMessage());
+        }
+    }
+
+    private Map<String, String> record(HttpExchange exchange) throws IOException {
+        Map<String, String> form = new HashMap<>();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        for (String pair : body.split("&")) {
+            String[] parts = pair.split("=", 2);
+            if (parts.length == 2) {
+                form.put(URLDecoder.decode(parts[0], StandardCharsets.UTF_8), URLDecoder.decode(parts[1], StandardCharsets.UTF_8));
+            }
+        }
+        form.put("method", exchange.getRequestMethod());
+        received.add(form);
+        return form;
+    }
+
+    private static void respond(HttpExchange exchange, int responseCode, String message) throws IOException {
+        // The real API answers 200 and puts the outcome in the body
+        byte[] body = ("{\"responseCode\": " + responseCode + ", \"message\": \"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> user(String email) {
+        Map<String, String> user = new HashMap<>();
+        user.put("Name", "Jane Roe");
+        user.put("Email", email);
+        user.put("Password", "pass@456");
+        user.put("Title", "Mrs");
+        user.put("Day", "12.0");
+        user.put("Month", "March");
+        user.put("Year", "1985.0");
+        user.put("FirstName", "Jane");
+        user.put("LastName", "Roe");
+        user.put("Company", "SampleCo");
+        user.put("Address", "456 Oak Road");
+        user.put("Address2", "Ste 5B");
+        user.put("Country", "Canada");
+        user.put("State", "Ontario");
+        user.put("City", "Toronto");
+        user.put("Zip", "M5H 2N2");
+        user.put("Mobile", "9.87654321E9");
+        return user;
+    }
+}
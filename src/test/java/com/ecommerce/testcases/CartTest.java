@@ -6,7 +6,6 @@ import org.testng.annotations.Test;
 import org.testng.Assert;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
@@ -68,29 +67,20 @@ public class CartTest extends BaseClass {
             cartPage.clickViewCart();
             log.info("Step 6 passed: Clicked View Cart.");
 
-            // Step 7: Verify both products are added
-            List<WebElement> products = cartPage.getCartProducts();
-            log.debug("Number of products in cart: " + products.size());
-            Assert.assertEquals(products.size(), 2, "Both products not added to cart.");
+            // Step 7: Verify both products are added (the whole cart table is read in one call)
+            List<CartPage.CartItem> items = cartPage.getCartItems();
+            log.debug("Number of products in cart: " + items.size());
+            Assert.assertEquals(items.size(), 2, "Both products not added to cart.");
             log.info("Step 7 passed: Verified both products are added to cart.");
 
             // Step 8: Verify prices, quantity, and total price
-            List<WebElement> prices = cartPage.getProductPrices();
-            List<WebElement> quantities = cartPage.getProductQuantities();
-            List<WebElement> totals = cartPage.getProductTotalPrices();
-
-            for (int i = 0; i < products.size(); i++) {
-                String priceText = prices.get(i).getText().replaceAll("[^\\d]", "");
-                String quantityText = quantities.get(i).getText().replaceAll("[^\\d]", "");
-                String totalText = totals.get(i).getText().replaceAll("[^\\d]", "");
-
-                int price = Integer.parseInt(priceText);
-                int quantity = Integer.parseInt(quantityText);
-                int expectedTotal = price * quantity;
-                int actualTotal = Integer.parseInt(totalText);
-
-                log.debug("Product " + (i + 1) + ": Price = " + price + ", Quantity = " + quantity + ", Total = " + actualTotal);
-                Assert.assertEquals(actualTotal, expectedTotal,
+            for (int i = 0; i < items.size(); i++) {
+                CartPage.CartItem item = items.get(i);
+                int expectedTotal = item.price() * item.quantity();
+
+                log.debug("Product " + (i + 1) + " (" + item.name() + "): Price = " + item.price()
+                        + ", Quantity = " + item.quantity() + ", Total = " + item.total());
+                Assert.assertEquals(item.total(), expectedTotal,
                         "Mismatch in total price for product " + (i + 1));
             }
 
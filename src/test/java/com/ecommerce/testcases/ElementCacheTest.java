@@ -0,0 +1,148 @@
+package com.ecommerce.testcases;
+
+import com.ecommerce.actiondriver.ElementDescriptor;
+import com.ecommerce.base.ElementCache;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the staleness-aware element cache against a fake search context, without a browser.
+ */
+public class ElementCacheTest {
+
+    /**
+     * Page object with one element field and one list field.
+     */
+    public static class FakePage {
+        @FindBy(id = "title")
+        private WebElement title;
+
+        @FindBy(css = "li")
+        private List<WebElement> items;
+    }
+
+    /**
+     * Search context whose elements go stale whenever {@link #rerender()} is called.
+     */
+    private static final class FakeSearchContext implements SearchContext {
+        private final AtomicInteger lookups = new AtomicInteger();
+        private volatile int generation;
+
+        void rerender() {
+            generation++;
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            lookups.incrementAndGet();
+            int elementGeneration = generation;
+            return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {WebElement.class},
+                    (proxy, method, args) -> {
+                        if (elementGeneration != generation) {
+                            throw new StaleElementReferenceException("stale");
+                        }
+                        if ("getText".equals(method.getName())) {
+                            return "text " + elementGeneration;
+                        }
+                        return null;
+                    });
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            lookups.incrementAndGet();
+            return List.of(findElement(by), findElement(by));
+        }
+    }
+
+    /**
+     * Test Case: An element is looked up once, then served from the cache.
+     */
+    @Test(groups = {"Regression"})
+    public void elementIsLookedUpOnce() {
+        FakeSearchContext context = new FakeSearchContext();
+        FakePage page = new FakePage();
+        int hitsBefore = ElementCache.hits("FakePage.title");
+
+        ElementCache.initElements(context, page);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(page.title.getText(), "text 0");
+        }
+
+        Assert.assertEquals(context.lookups.get(), 1, "Cached element was looked up again.");
+        Assert.assertEquals(ElementCache.hits("FakePage.title") - hitsBefore, 4);
+        Assert.assertTrue(page.title.toString().contains("By.id: title"));
+        Assert.assertEquals(context.lookups.get(), 1, "toString() should not look the element up.");
+    }
+
+    /**
+     * Test Case: A stale cached element is looked up again and the call repeated, once.
+     */
+    @Test(groups = {"Regression"})
+    public void staleElementIsLookedUpAgain() {
+        FakeSearchContext context = new FakeSearchContext();
+        FakePage page = new FakePage();
+        int staleBefore = ElementCache.staleLookups("FakePage.title");
+
+        ElementCache.initElements(context, page);
+        Assert.assertEquals(page.title.getText(), "text 0");
+        context.rerender();
+
+        Assert.assertEquals(page.title.getText(), "text 1");
+        Assert.assertEquals(page.title.getText(), "text 1");
+        Assert.assertEquals(context.lookups.get(), 2);
+        Assert.assertEquals(ElementCache.staleLookups("FakePage.title") - staleBefore, 1);
+    }
+
+    /**
+     * Test Case: Elements handed to scripts and list fields are always looked up fresh.
+     */
+    @Test(groups = {"Regression"})
+    public void wrappedElementsAndListsAreNotCached() {
+        FakeSearchContext context = new FakeSearchContext();
+        FakePage page = new FakePage();
+
+        ElementCache.initElements(context, page);
+        page.title.getText();
+        context.rerender();
+        WebElement wrapped = ((WrapsElement) page.title).getWrappedElement();
+
+        Assert.assertEquals(wrapped.getText(), "text 1");
+        Assert.assertEquals(page.items.size(), 2);
+        Assert.assertEquals(page.items.size(), 2);
+        // 1 element lookup, 1 fresh lookup for the wrapped element, 2 list accesses of 1 + 2 lookups each
+        Assert.assertEquals(context.lookups.get(), 8);
+    }
+
+    /**
+     * Test Case: Elements are described for log messages from their locator, without a lookup.
+     */
+    @Test(groups = {"Regression"})
+    public void descriptorDoesNotLookElementUp() {
+        FakeSearchContext context = new FakeSearchContext();
+        FakePage cachedPage = new FakePage();
+        FakePage plainPage = new FakePage();
+
+        ElementCache.initElements(context, cachedPage);
+        PageFactory.initElements(context, plainPage);
+        ElementDescriptor descriptor = ElementDescriptor.of(cachedPage.title);
+
+        Assert.assertEquals(descriptor.toString(), "FakePage.title (By.id: title)");
+        Assert.assertEquals(context.lookups.get(), 0, "Describing an element should not look it up.");
+
+        // A plain PageFactory proxy has no locator to offer; it describes itself through a lookup
+        Assert.assertNotNull(ElementDescriptor.describe(plainPage.title));
+        Assert.assertEquals(context.lookups.get(), 1);
+    }
+}
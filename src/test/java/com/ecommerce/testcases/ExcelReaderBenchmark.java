@@ -0,0 +1,206 @@
+package com.ecommerce.testcases;
+
+import com.ecommerce.utility.ExcelUtil;
+import com.ecommerce.utility.TestDataTable;
+import com.ecommerce.utility.XlsxStreamReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks the streaming XLSX reader against the XSSFWorkbook reader and compares their cost, and
+ * the heap held by row maps and by the columnar table, on a large generated sheet. The benchmarks
+ * are in their own group and are not part of the suites: run them with {@code -Dgroups=Benchmark}.
+ */
+public class ExcelReaderBenchmark {
+
+    private static final Logger log = LogManager.getLogger(ExcelReaderBenchmark.class);
+    private static final String[] COLUMNS = {"Name", "Email", "Password", "Title", "Day", "Month", "Year",
+            "Newsletter", "Offers", "FirstName", "LastName", "Company", "Address", "Address2",
+            "Country", "State", "City", "Zip", "Mobile"};
+
+    private final List<File> generated = new ArrayList<>();
+
+    @AfterClass(alwaysRun = true)
+    public void deleteGeneratedSheets() {
+        generated.forEach(File::delete);
+    }
+
+    /**
+     * Test Case: Both readers return the same rows, for the project's data file and for a sheet
+     * with every cell type (numbers, booleans, dates, formulas, blanks).
+     */
+    @Test(groups = {"Regression"})
+    public void streamingMatchesWorkbook() throws Exception {
+        try (InputStream is = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream("TestData/UserRegistrationData.xlsx")) {
+            Assert.assertEquals(ExcelUtil.getTestData("Sheet1"), ExcelUtil.getTestDataWithWorkbook(is, "Sheet1"));
+        }
+
+        File file = generate(200);
+        Assert.assertEquals(stream(file), workbook(file));
+    }
+
+    /**
+     * Benchmark: time and allocated bytes of both readers on a 50,000-row sheet.
+     */
+    @Test(groups = {"Benchmark"})
+    public void compareReadersOnLargeSheet() throws Exception {
+        File file = generate(50_000);
+        // Warm up both paths once so class loading is not measured
+        stream(file);
+        workbook(file);
+
+        long[] workbookCost = measure(() -> workbook(file).size());
+        long[] streamingCost = measure(() -> {
+            AtomicInteger rows = new AtomicInteger();
+            try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+                XlsxStreamReader.read(pkg, "Sheet1", row -> rows.incrementAndGet());
+            }
+            return rows.get();
+        });
+
+        log.info(String.format("XSSFWorkbook: %d rows in %d ms, %d MB allocated",
+                workbookCost[0], workbookCost[1], workbookCost[2] / (1024 * 1024)));
+        log.info(String.format("Streaming:    %d rows in %d ms, %d MB allocated",
+                streamingCost[0], streamingCost[1], streamingCost[2] / (1024 * 1024)));
+        Assert.assertEquals(streamingCost[0], workbookCost[0], "Readers returned different row counts.");
+    }
+
+    /**
+     * Benchmark: heap retained by a 50,000-row sheet held as row maps and as a columnar table.
+     */
+    @Test(groups = {"Benchmark"})
+    public void compareRowStorageOnLargeSheet() throws Exception {
+        File file = generate(50_000);
+
+        long before = usedHeap();
+        List<Map<String, String>> maps = stream(file);
+        long mapBytes = usedHeap() - before;
+
+        before = usedHeap();
+        TestDataTable table = table(file);
+        long tableBytes = usedHeap() - before;
+
+        log.info(String.format("Row maps:       %d rows, %d MB retained", maps.size(), mapBytes / (1024 * 1024)));
+        log.info(String.format("Columnar table: %d rows, %d MB retained", table.rowCount(), tableBytes / (1024 * 1024)));
+        Assert.assertEquals(table.rowCount(), maps.size(), "Table and row maps hold different row counts.");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static TestDataTable table(File file) throws Exception {
+        TestDataTable.Builder[] table = new TestDataTable.Builder[1];
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XlsxStreamReader.readCells(pkg, "Sheet1", cells -> {
+                if (table[0] == null) {
+                    table[0] = TestDataTable.builder(cells);
+                } else {
+                    table[0].addRow(cells);
+                }
+            });
+        }
+        return table[0].build();
+    }
+
+    private interface Read {
+        int rows() throws Exception;
+    }
+
+    /**
+     * Returns {rows, elapsed ms, bytes allocated by this thread}.
+     */
+    private static long[] measure(Read read) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        int rows = read.rows();
+        long elapsed = (System.nanoTime() - started) / 1_000_000;
+        return new long[] {rows, elapsed, threads.getThreadAllocatedBytes(thread) - allocatedBefore};
+    }
+
+    private static List<Map<String, String>> stream(File file) throws Exception {
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XlsxStreamReader.read(pkg, "Sheet1", rows::add);
+        }
+        return rows;
+    }
+
+    private static List<Map<String, String>> workbook(File file) throws IOException {
+        try (InputStream is = new FileInputStream(file)) {
+            return ExcelUtil.getTestDataWithWorkbook(is, "Sheet1");
+        }
+    }
+
+    private File generate(int rows) throws IOException {
+        File file = Files.createTempFile("registration-data", ".xlsx").toFile();
+        generated.add(file);
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100); OutputStream out = new FileOutputStream(file)) {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+            Sheet sheet = workbook.createSheet("Sheet1");
+            Row header = sheet.createRow(0);
+            for (int j = 0; j < COLUMNS.length; j++) {
+                header.createCell(j).setCellValue(COLUMNS[j]);
+            }
+            for (int i = 1; i <= rows; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue("User " + i);
+                row.createCell(1).setCellValue("user" + i + "@test.com");
+                row.createCell(2).setCellValue("pass@" + i);
+                row.createCell(3).setCellValue(i % 2 == 0 ? "Mr" : "Mrs");
+                row.createCell(4).setCellValue(i % 28 + 1);
+                row.createCell(5).setCellValue("March");
+                row.createCell(6).setCellValue(1960 + i % 40);
+                row.createCell(7).setCellValue(i % 2 == 0);
+                row.createCell(8).setCellValue(i % 3 == 0);
+                row.createCell(9).setCellValue("First" + i);
+                row.createCell(10).setCellValue("Last" + i);
+                Cell joined = row.createCell(11);
+                joined.setCellValue(new Date(1_000_000_000_000L + i * 86_400_000L));
+                joined.setCellStyle(dateStyle);
+                row.createCell(12).setCellValue(i + " Oak Road");
+                // Column 13 (Address2) left blank
+                row.createCell(14).setCellValue("Canada");
+                row.createCell(15).setCellValue("Ontario");
+                row.createCell(16).setCellFormula("\"Toronto\"&\"\"");
+                row.createCell(17).setCellValue("M5H 2N2");
+                row.createCell(18).setCellValue(9_000_000_000L + i);
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+        return file;
+    }
+}
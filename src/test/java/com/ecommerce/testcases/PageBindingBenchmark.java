@@ -0,0 +1,156 @@
+package com.ecommerce.testcases;
+
+import com.ecommerce.actiondriver.ElementDescriptor;
+import com.ecommerce.base.ElementCache;
+import com.ecommerce.base.LazyElement;
+import com.ecommerce.pageobjects.CartPage;
+import com.ecommerce.pageobjects.CartPageBinding;
+import com.ecommerce.pageobjects.CheckoutPage;
+import com.ecommerce.pageobjects.LoginPage;
+import com.ecommerce.pageobjects.ProductsPage;
+import com.ecommerce.pageobjects.RegisterPage;
+import com.ecommerce.pageobjects.SearchProductsPage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks the page bindings generated at compile time against PageFactory and compares the cost of
+ * binding a page both ways. The benchmark is in its own group and is not part of the suites: run it
+ * with {@code -Dgroups=Benchmark}.
+ */
+public class PageBindingBenchmark {
+
+    private static final Logger log = LogManager.getLogger(PageBindingBenchmark.class);
+    private static final List<Class<?>> PAGES = List.of(CartPage.class, CheckoutPage.class, LoginPage.class,
+            ProductsPage.class, RegisterPage.class, SearchProductsPage.class);
+
+    /**
+     * Search context that counts lookups and answers them with inert elements.
+     */
+    private static final class CountingSearchContext implements SearchContext {
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public WebElement findElement(By by) {
+            lookups.incrementAndGet();
+            return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {WebElement.class},
+                    (proxy, method, args) -> "getText".equals(method.getName()) ? by.toString() : null);
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            lookups.incrementAndGet();
+            return List.of(findElement(by), findElement(by));
+        }
+    }
+
+    /**
+     * Test Case: Every @FindBy field of every page is bound to the locator PageFactory would build.
+     */
+    @Test(groups = {"Regression"})
+    public void generatedLocatorsMatchPageFactory() throws Exception {
+        int checked = 0;
+        for (Class<?> pageClass : PAGES) {
+            Object page = pageClass.getDeclaredConstructor().newInstance();
+            for (Field field : pageClass.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(FindBy.class)) {
+                    continue;
+                }
+                field.setAccessible(true);
+                By expected = new Annotations(field).buildBy();
+                Object bound = field.get(page);
+                if (bound instanceof List) {
+                    Assert.assertEquals(bound.toString(), "Proxy element list for: Located by " + expected, field.toString());
+                } else {
+                    Assert.assertTrue(bound instanceof LazyElement, field + " is not bound by the generated binding.");
+                    Assert.assertEquals(ElementDescriptor.describe((WebElement) bound),
+                            pageClass.getSimpleName() + "." + field.getName() + " (" + expected + ")");
+                }
+                checked++;
+            }
+        }
+        Assert.assertTrue(checked > 0, "No @FindBy fields found.");
+    }
+
+    /**
+     * Test Case: Binding looks nothing up; an element is looked up on first use, a list on every access.
+     */
+    @Test(groups = {"Regression"})
+    public void bindingLooksElementsUpOnFirstUse() throws Exception {
+        CountingSearchContext context = new CountingSearchContext();
+        CartPage page = new CartPage();
+
+        CartPageBinding.bind(page, context);
+        Assert.assertEquals(context.lookups.get(), 0, "Binding should not look elements up.");
+
+        WebElement viewCart = (WebElement) fieldValue(page, "viewCartBtn");
+        Assert.assertEquals(viewCart.getText(), CartPageBinding.VIEW_CART_BTN.toString());
+        Assert.assertEquals(viewCart.getText(), CartPageBinding.VIEW_CART_BTN.toString());
+        Assert.assertEquals(context.lookups.get(), 1);
+
+        List<?> cartProducts = (List<?>) fieldValue(page, "cartProducts");
+        Assert.assertEquals(cartProducts.size(), 2);
+        Assert.assertEquals(cartProducts.size(), 2);
+        // 1 element lookup, then 2 list accesses of 1 + 2 lookups each
+        Assert.assertEquals(context.lookups.get(), 7);
+    }
+
+    /**
+     * Benchmark: binding a page's 15 elements through PageFactory, the element cache and the
+     * generated binding.
+     */
+    @Test(groups = {"Benchmark"})
+    public void compareBindingCost() {
+        CountingSearchContext context = new CountingSearchContext();
+        CartPage page = new CartPage();
+        int binds = 100_000;
+        // Warm up every path so class loading and JIT compilation are not measured
+        measure(5_000, () -> PageFactory.initElements(context, page));
+        measure(5_000, () -> ElementCache.initElements(context, page));
+        measure(5_000, () -> CartPageBinding.bind(page, context));
+
+        long[] pageFactory = measure(binds, () -> PageFactory.initElements(context, page));
+        long[] elementCache = measure(binds, () -> ElementCache.initElements(context, page));
+        long[] generated = measure(binds, () -> CartPageBinding.bind(page, context));
+
+        log.info(String.format("PageFactory:       %,d ns and %,d bytes per page", pageFactory[0] / binds, pageFactory[1] / binds));
+        log.info(String.format("Element cache:     %,d ns and %,d bytes per page", elementCache[0] / binds, elementCache[1] / binds));
+        log.info(String.format("Generated binding: %,d ns and %,d bytes per page", generated[0] / binds, generated[1] / binds));
+        Assert.assertEquals(context.lookups.get(), 0, "Binding should not look elements up.");
+    }
+
+    /**
+     * Returns {elapsed ns, bytes allocated by this thread} for running the bind the given number of times.
+     */
+    private static long[] measure(int times, Runnable bind) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        for (int i = 0; i < times; i++) {
+            bind.run();
+        }
+        long elapsed = System.nanoTime() - started;
+        return new long[] {elapsed, threads.getThreadAllocatedBytes(thread) - allocatedBefore};
+    }
+
+    private static Object fieldValue(Object page, String name) throws ReflectiveOperationException {
+        Field field = page.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(page);
+    }
+}
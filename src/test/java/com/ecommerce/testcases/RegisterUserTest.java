@@ -3,13 +3,14 @@ package com.ecommerce.testcases;
 import com.ecommerce.base.BaseClass;
 import com.ecommerce.pageobjects.RegisterPage;
 import com.ecommerce.utility.ExcelUtil;
+import com.ecommerce.utility.UniqueIdentity;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 
 /**
@@ -30,13 +31,9 @@ public class RegisterUserTest extends BaseClass {
     private RegisterPage registerPage;
 
     @DataProvider(name = "userData")
-    public Object[][] getUserData() {
-        List<Map<String, String>> testData = ExcelUtil.getTestData("Sheet1");
-        Object[][] data = new Object[testData.size()][1];
-        for (int i = 0; i < testData.size(); i++) {
-            data[i][0] = testData.get(i);
-        }
-        return data;
+    public Iterator<Object[]> getUserData() {
+        // Rows are streamed on demand, with unique emails so parallel runs and reruns never hit "email already exists"
+        return ExcelUtil.iterateTestData("Sheet1", UniqueIdentity::uniquify);
     }
 
     @Test(dataProvider = "userData", groups = {"Regression"})
@@ -0,0 +1,79 @@
+package com.ecommerce.testcases;
+
+import com.ecommerce.utility.ExcelUtil;
+import com.ecommerce.utility.RowIterator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * Tests the lazy data provider over the project's test data sheet, without a browser.
+ */
+public class RowIteratorTest {
+
+    /**
+     * Test Case: The lazy data provider hands every row out exactly once when several threads
+     * pull from it, as TestNG does for parallel data providers.
+     */
+    @Test(groups = {"Regression"})
+    public void iteratorHandsOutEachRowOnce() throws Exception {
+        Iterator<Object[]> rows = ExcelUtil.iterateTestData("Sheet1", UnaryOperator.identity());
+        List<Object> pulled = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 4; i++) {
+                workers.submit(() -> {
+                    Object[] next;
+                    while ((next = nextOrNull(rows)) != null) {
+                        pulled.add(next[0]);
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+        }
+        Assert.assertTrue(workers.awaitTermination(30, TimeUnit.SECONDS), "Readers did not finish.");
+        Assert.assertEquals(new HashSet<>(pulled), new HashSet<>(ExcelUtil.getTestData("Sheet1")));
+        Assert.assertEquals(pulled.size(), ExcelUtil.getTestData("Sheet1").size());
+    }
+
+    /**
+     * Test Case: The lazy data provider maps a row only when it hands it out, and stops handing
+     * rows out once closed.
+     */
+    @Test(groups = {"Regression"})
+    public void iteratorMapsRowsWhenHandedOut() {
+        AtomicInteger mapped = new AtomicInteger();
+        try (RowIterator rows = new RowIterator("Sheet1", row -> {
+            mapped.incrementAndGet();
+            return row;
+        })) {
+            Assert.assertTrue(rows.hasNext());
+            Assert.assertEquals(mapped.get(), 0, "A row was mapped before it was handed out.");
+            rows.next();
+            Assert.assertEquals(mapped.get(), 1);
+            rows.close();
+            Assert.assertFalse(rows.hasNext(), "A closed iterator should have no rows.");
+        }
+    }
+
+    private static Object[] nextOrNull(Iterator<Object[]> rows) {
+        // hasNext and next are separate calls, so another thread may take the row in between
+        try {
+            return rows.next();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+}
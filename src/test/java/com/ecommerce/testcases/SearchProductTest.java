@@ -55,8 +55,8 @@ public class SearchProductTest extends BaseClass {
                         "'SEARCHED PRODUCTS' title not visible for product: " + product);
                 log.info("'SEARCHED PRODUCTS' title is visible.");
 
-                List<?> searchResults = searchPage.getSearchedProducts();
-                log.debug("Number of search results for " + product + ": " + searchResults.size());
+                List<SearchProductsPage.Product> searchResults = searchPage.getSearchedProductDetails();
+                log.debug("Search results for " + product + ": " + searchResults);
                 Assert.assertTrue(searchResults.size() > 0, "No products found for: " + product);
                 log.info("Search results verified for product: " + product);
             }
@@ -0,0 +1,97 @@
+package com.ecommerce.testcases;
+
+import com.ecommerce.utility.JsonDataReader;
+import com.ecommerce.utility.TestDataRepository;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests the shared test data cache with a temporary JSON file, without a browser.
+ */
+public class TestDataRepositoryTest {
+
+    private Path file;
+
+    @BeforeClass(alwaysRun = true)
+    public void writeFile() throws Exception {
+        file = Files.createTempFile("credentials", ".json");
+        Files.write(file, "{\"valid\":{\"email\":\"a@test.com\"},\"invalid\":[{\"email\":\"b@test.com\"}]}"
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteFile() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Test Case: Many readers created concurrently share one parse of the file.
+     */
+    @Test(groups = {"Regression"})
+    public void fileIsParsedOnceForConcurrentReaders() throws Exception {
+        String key = file.toAbsolutePath().normalize().toString();
+        int loadsBefore = TestDataRepository.loadCount(key);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<JSONObject>> readers = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                readers.add(executor.submit(() -> new JsonDataReader(file.toString()).getValidCredentials()));
+            }
+            JSONObject first = readers.get(0).get();
+            for (Future<JSONObject> reader : readers) {
+                Assert.assertSame(reader.get(), first, "Readers did not share the parsed file.");
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(TestDataRepository.loadCount(key) - loadsBefore, loadsBefore == 0 ? 1 : 0);
+    }
+
+    /**
+     * Test Case: Changing the file makes the next reader parse it again.
+     */
+    @Test(groups = {"Regression"}, dependsOnMethods = "fileIsParsedOnceForConcurrentReaders")
+    public void changedFileIsParsedAgain() throws Exception {
+        String key = file.toAbsolutePath().normalize().toString();
+        int loadsBefore = TestDataRepository.loadCount(key);
+        Files.write(file, "{\"valid\":{\"email\":\"c@test.com\"},\"invalid\":[]}".getBytes(StandardCharsets.UTF_8));
+        // Some file systems only keep whole seconds
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 2_000));
+
+        Assert.assertEquals(new JsonDataReader(file.toString()).getValidCredentials().get("email"), "c@test.com");
+        Assert.assertEquals(TestDataRepository.loadCount(key), loadsBefore + 1);
+    }
+
+    /**
+     * Test Case: Shared objects and arrays reject changes.
+     */
+    @Test(groups = {"Regression"})
+    @SuppressWarnings("unchecked")
+    public void sharedDataIsReadOnly() {
+        JsonDataReader reader = new JsonDataReader(file.toString());
+        JSONObject valid = reader.getValidCredentials();
+        JSONArray invalid = reader.getInvalidCredentials();
+
+        Assert.assertThrows(UnsupportedOperationException.class, () -> valid.put("email", "x@test.com"));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> valid.keySet().clear());
+        Assert.assertThrows(UnsupportedOperationException.class, () -> invalid.add(new JSONObject()));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> {
+            invalid.iterator().next();
+            invalid.iterator().remove();
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.ecommerce.testcases;
+
+import com.ecommerce.utility.ExcelUtil;
+import com.ecommerce.utility.TestDataTable;
+import com.ecommerce.utility.XlsxStreamReader;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests the columnar test data table, without a browser.
+ */
+public class TestDataTableTest {
+
+    private static TestDataTable table() {
+        return TestDataTable.builder("Name", "Day", "Joined", "Mobile", "Address2")
+                .addRow("Jane Roe", "12.0", "03-Mar-2001", "9.87654321E9", "")
+                .addRow("John Doe", "", "2002-04-05", "9.87654322E9", "Suite 4")
+                .addRow("Max Mustermann", "7.0", "", "9.87654323E9")
+                .build();
+    }
+
+    /**
+     * Test Case: Row views read like the row maps the spreadsheet reader builds.
+     */
+    @Test(groups = {"Regression"})
+    public void rowViewMatchesRowMap() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("Name", "Jane Roe");
+        expected.put("Day", "12.0");
+        expected.put("Joined", "03-Mar-2001");
+        expected.put("Mobile", "9.87654321E9");
+        expected.put("Address2", "");
+
+        TestDataTable table = table();
+
+        Assert.assertEquals(table.rowCount(), 3);
+        Assert.assertEquals(table.row(0), expected);
+        Assert.assertEquals(expected, table.row(0));
+        Assert.assertEquals(table.row(0).hashCode(), expected.hashCode());
+        Assert.assertEquals(table.rows().get(2).get("Address2"), "", "Missing trailing cells should be blank.");
+        Assert.assertNull(table.row(0).get("Country"));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> table.row(0).put("Name", "x"));
+    }
+
+    /**
+     * Test Case: The table built from the project's data sheet holds the same rows as the row
+     * maps the streaming reader builds.
+     */
+    @Test(groups = {"Regression"})
+    public void sheetTableMatchesRowMaps() throws Exception {
+        List<Map<String, String>> maps = new ArrayList<>();
+        try (InputStream is = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream("TestData/UserRegistrationData.xlsx");
+             OPCPackage pkg = OPCPackage.open(is)) {
+            XlsxStreamReader.read(pkg, "Sheet1", maps::add);
+        }
+
+        TestDataTable table = ExcelUtil.getTable("Sheet1");
+
+        Assert.assertFalse(maps.isEmpty(), "The data sheet has no rows.");
+        Assert.assertEquals(table.rowCount(), maps.size());
+        Assert.assertEquals(table.rows(), maps, "Table rows differ from the row maps.");
+    }
+
+    /**
+     * Test Case: Typed accessors convert cell text to numbers and dates.
+     */
+    @Test(groups = {"Regression"})
+    public void typedAccessorsConvertCells() {
+        TestDataTable table = table();
+
+        Assert.assertEquals(table.getNumber(0, "Day"), 12.0);
+        Assert.assertTrue(Double.isNaN(table.getNumber(1, "Day")));
+        Assert.assertEquals((long) table.getNumber(0, "Mobile"), 9_876_543_210L);
+        Assert.assertEquals(table.getDate(0, "Joined"), LocalDate.of(2001, 3, 3));
+        Assert.assertEquals(table.getDate(1, "Joined"), LocalDate.of(2002, 4, 5));
+        Assert.assertNull(table.getDate(2, "Joined"));
+        Assert.assertThrows(NumberFormatException.class, () -> table.getNumber(0, "Name"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> table.getString(0, "Country"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.testcases;
+
+import com.ecommerce.utility.UniqueIdentity;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests the unique identity generator used by the registration data providers, without a browser.
+ */
+public class UniqueIdentityTest {
+
+    /**
+     * Test Case: Ids generated concurrently by many threads never repeat.
+     */
+    @Test(groups = {"Regression"})
+    public void idsAreUniqueAcrossThreads() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < 25_000; i++) {
+                        Assert.assertTrue(ids.add(UniqueIdentity.next()), "Duplicate id generated.");
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(ids.size(), 200_000);
+    }
+
+    /**
+     * Test Case: Spreadsheet rows get unique, still valid emails and keep their other columns.
+     */
+    @Test(groups = {"Regression"})
+    public void uniquifyRewritesEmailOnly() {
+        Map<String, String> row = new HashMap<>();
+        row.put("Name", "Jane Roe");
+        row.put("Email", "jane.roe1@test.com");
+        List<Map<String, String>> rows = List.of(row, row);
+
+        List<Map<String, String>> unique = UniqueIdentity.uniquify(rows);
+
+        Assert.assertNotEquals(unique.get(0).get("Email"), unique.get(1).get("Email"));
+        for (Map<String, String> copy : unique) {
+            Assert.assertTrue(copy.get("Email").matches("jane\\.roe1\\.[a-z0-9]+\\.[a-z0-9]+@test\\.com"),
+                    "Unexpected email: " + copy.get("Email"));
+            Assert.assertEquals(copy.get("Name"), "Jane Roe");
+        }
+        Assert.assertEquals(row.get("Email"), "jane.roe1@test.com", "Source row was modified.");
+    }
+}